@@ -0,0 +1,123 @@
+package seedu.address;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Slot;
+import seedu.address.model.person.Telegram;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+
+/**
+ * Measures the cold start of the application without the GUI: the time for a new JVM to run {@link Main} with the
+ * {@value AppParameters#HEADLESS_FLAG} flag, load an address book of {@code size} persons, run a {@code list} command
+ * and exit. Each invocation starts a new JVM with {@code jvmOptions}, so the JVM start-up time is included.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 20)
+public class HeadlessStartupBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    @Param({"", "-XX:TieredStopAtLevel=1"})
+    private String jvmOptions;
+
+    private Path workingDirectory;
+    private Path commandsPath;
+    private List<String> command;
+
+    @Setup
+    public void setUp() throws IOException {
+        workingDirectory = Files.createTempDirectory("startup-benchmark");
+        Path prefsFilePath = workingDirectory.resolve("preferences.json");
+        Path addressBookFilePath = workingDirectory.resolve("addressbook.json");
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(prefsFilePath);
+        ConfigUtil.saveConfig(config, workingDirectory.resolve(Config.DEFAULT_CONFIG_FILE));
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+        new JsonUserPrefsStorage(prefsFilePath).saveUserPrefs(userPrefs);
+
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            HomeworkTracker homework = new HomeworkTracker().addHomework(1).addHomework(2)
+                    .updateStatus(1, "complete");
+            addressBook.addPerson(new Person(new Name("Student " + i), new Phone("9" + (1000000 + i)),
+                    new Email("student" + i + "@u.nus.edu"), new Nusnetid(String.format("E%07d", i)),
+                    new Telegram("@student" + i), new Slot("T" + (i % 40)), homework));
+        }
+        new JsonAddressBookStorage(addressBookFilePath).saveAddressBook(addressBook);
+
+        commandsPath = workingDirectory.resolve("commands.txt");
+        Files.writeString(commandsPath, ListCommand.COMMAND_WORD + System.lineSeparator());
+
+        command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        if (!jvmOptions.isEmpty()) {
+            command.addAll(Arrays.asList(jvmOptions.split(" ")));
+        }
+        command.addAll(Arrays.asList("-cp", getAbsoluteClassPath(), Main.class.getName(),
+                AppParameters.HEADLESS_FLAG));
+    }
+
+    /**
+     * Returns the class path of this JVM, with relative entries made absolute as the application runs in
+     * {@code workingDirectory}.
+     */
+    private static String getAbsoluteClassPath() {
+        return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .map(entry -> Paths.get(entry).toAbsolutePath().toString())
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    @Benchmark
+    public int headlessList() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .directory(workingDirectory.toFile())
+                .redirectInput(commandsPath.toFile())
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        int exitStatus = process.waitFor();
+        if (exitStatus != HeadlessApp.EXIT_SUCCESS) {
+            throw new IllegalStateException("Headless run failed with exit status " + exitStatus);
+        }
+        return exitStatus;
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.commons.util;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link StringUtil#containsWordIgnoreCase(String, String)} against splitting the sentence with a regex and
+ * streaming over the words, on names of realistic length. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringUtilBenchmark {
+
+    private String name = "Muhammad Irfan bin Abdul Rahman";
+    private String matchingWord = "abdul";
+    private String missingWord = "tan";
+
+    @Benchmark
+    public boolean regionMatchesHit() {
+        return StringUtil.containsWordIgnoreCase(name, matchingWord);
+    }
+
+    @Benchmark
+    public boolean regionMatchesMiss() {
+        return StringUtil.containsWordIgnoreCase(name, missingWord);
+    }
+
+    @Benchmark
+    public boolean splitHit() {
+        return containsWordBySplitting(name, matchingWord);
+    }
+
+    @Benchmark
+    public boolean splitMiss() {
+        return containsWordBySplitting(name, missingWord);
+    }
+
+    /**
+     * The previous implementation of {@link StringUtil#containsWordIgnoreCase(String, String)}.
+     */
+    private static boolean containsWordBySplitting(String sentence, String word) {
+        String preppedWord = word.trim();
+        AppUtil.checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        AppUtil.checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        return Arrays.stream(sentence.split("\\s+")).anyMatch(preppedWord::equalsIgnoreCase);
+    }
+}
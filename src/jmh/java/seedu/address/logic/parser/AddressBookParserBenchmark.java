@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.MarkHomeworkCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Compares parsing {@code add} and {@code mark} commands through the {@link CommandRegistry} of
+ * {@link AddressBookParser} against splitting off the command word with a regex and creating a new parser for every
+ * command. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressBookParserBenchmark {
+
+    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String addInput = AddCommand.COMMAND_WORD
+            + " n/Alice Pauline Tan p/94351253 e/alice.tan@u.nus.edu i/E1234567 t/@alicetan s/T12";
+    private String markInput = MarkHomeworkCommand.COMMAND_WORD + " i/E1234567 a/2 status/complete";
+
+    @Benchmark
+    public Command registryAdd() throws ParseException {
+        return parser.parseCommand(addInput);
+    }
+
+    @Benchmark
+    public Command registryMark() throws ParseException {
+        return parser.parseCommand(markInput);
+    }
+
+    @Benchmark
+    public Command regexAdd() throws ParseException {
+        return parseWithRegex(addInput);
+    }
+
+    @Benchmark
+    public Command regexMark() throws ParseException {
+        return parseWithRegex(markInput);
+    }
+
+    /**
+     * Dispatches as {@link AddressBookParser} did before it used a {@link CommandRegistry}.
+     */
+    private static Command parseWithRegex(String userInput) throws ParseException {
+        Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(userInput);
+        }
+        String arguments = matcher.group("arguments");
+        switch (matcher.group("commandWord")) {
+        case AddCommand.COMMAND_WORD:
+            return new AddCommandParser().parse(arguments);
+        case MarkHomeworkCommand.COMMAND_WORD:
+            return new MarkHomeworkCommandParser().parse(arguments);
+        default:
+            throw new ParseException(userInput);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUSNETID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SLOT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures tokenizing the arguments of typical {@code add} and {@code mark} commands.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArgumentTokenizerBenchmark {
+
+    private String addArgs = " n/Alice Pauline Tan p/94351253 e/alice.tan@u.nus.edu i/E1234567 t/@alicetan s/T12";
+    private String markArgs = " i/E1234567 a/2 status/complete";
+    private Prefix prefixStatus = new Prefix("status/");
+
+    @Benchmark
+    public ArgumentMultimap add() {
+        return ArgumentTokenizer.tokenize(addArgs, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_NUSNETID,
+                PREFIX_TELEGRAM, PREFIX_SLOT);
+    }
+
+    @Benchmark
+    public ArgumentMultimap mark() {
+        return ArgumentTokenizer.tokenize(markArgs, PREFIX_NUSNETID, PREFIX_ASSIGNMENT, prefixStatus);
+    }
+}
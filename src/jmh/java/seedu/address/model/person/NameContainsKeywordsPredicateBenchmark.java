@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Compares filtering persons with {@link NameContainsKeywordsPredicate}, which matches pre-normalized keywords
+ * against the cached words of each name, against calling {@link StringUtil#containsWordIgnoreCase(String, String)}
+ * for every person and keyword. This measures direct filtering by name only: the {@code find} command answers
+ * queries from the search index instead. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    private List<Person> persons;
+    private List<String> keywords = Arrays.asList("Tan", "Kumar", "Wei");
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        String[] givenNames = {"Wei Ling", "Arjun", "Siti Nur", "Jun Hao", "Priya"};
+        String[] surnames = {"Tan", "Kumar", "Lim", "Abdullah", "Ng"};
+        persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = givenNames[i % givenNames.length] + " " + surnames[(i / 7) % surnames.length] + " " + i;
+            persons.add(new Person(new Name(name), new Phone("9" + (1000000 + i)),
+                    new Email("student" + i + "@u.nus.edu"), new Nusnetid(String.format("E%07d", i)),
+                    new Telegram("@student" + i), Slot.of("T" + (i % 40)), new HomeworkTracker()));
+        }
+        predicate = new NameContainsKeywordsPredicate(keywords);
+        // Populate the cached words, as the search index does when persons are added
+        persons.forEach(predicate::test);
+    }
+
+    @Benchmark
+    public int compiledPredicate() {
+        int count = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int containsWordIgnoreCase() {
+        int count = 0;
+        for (Person person : persons) {
+            if (keywords.stream().anyMatch(keyword ->
+                    StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword))) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares validating a person's fields with {@link String#matches(String)}, which compiles the regex on every call,
+ * against the validators of the value classes and against constructing the value objects themselves.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PersonValidationBenchmark {
+
+    private String name = "Alice Pauline Tan";
+    private String phone = "94351253";
+    private String email = "alice.tan@u.nus.edu";
+    private String nusnetid = "E1234567";
+    private String slot = "T12";
+    private String telegram = "@alicetan";
+
+    @Benchmark
+    public boolean stringMatches() {
+        return name.matches(Name.VALIDATION_REGEX)
+                & phone.matches(Phone.VALIDATION_REGEX)
+                & email.matches(Email.VALIDATION_REGEX)
+                & nusnetid.matches(Nusnetid.VALIDATION_REGEX)
+                & slot.matches(Slot.VALIDATION_REGEX)
+                & telegram.matches(Telegram.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean validators() {
+        return Name.isValidName(name)
+                & Phone.isValidSlot(phone)
+                & Email.isValidEmail(email)
+                & Nusnetid.isValidNusnetid(nusnetid)
+                & Slot.isValidSlot(slot)
+                & Telegram.isValidTelegram(telegram);
+    }
+
+    @Benchmark
+    public Person construct() {
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Nusnetid(nusnetid),
+                new Telegram(telegram), new Slot(slot), new HomeworkTracker());
+    }
+}
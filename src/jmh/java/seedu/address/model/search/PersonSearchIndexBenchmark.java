@@ -0,0 +1,95 @@
+package seedu.address.model.search;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Email;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Slot;
+import seedu.address.model.person.Telegram;
+
+/**
+ * Measures exact, prefix and typo-tolerant searches of a {@link PersonSearchIndex} holding many persons with varied
+ * names. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonSearchIndexBenchmark {
+
+    private static final String[] SYLLABLES = {"an", "be", "chi", "do", "el", "fa", "gi", "ho", "in", "ja", "ko", "li",
+        "ma", "ne", "or", "pa", "qu", "ri", "sa", "ta", "un", "vi", "wa", "xi", "ya", "zo"};
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private PersonSearchIndex index;
+    private List<String> exactName;
+    private List<String> namePrefix;
+    private List<String> nameWithTypo;
+    private List<String> nusnetidPrefix;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new PersonSearchIndex();
+        String sampleName = null;
+        for (int i = 0; i < size; i++) {
+            String name = randomWord(random) + " " + randomWord(random);
+            sampleName = name;
+            index.add(new Person(new Name(name), new Phone("9" + (1000000 + i)),
+                    new Email("student" + i + "@u.nus.edu"), new Nusnetid(String.format("E%07d", i)),
+                    new Telegram("@student" + i), Slot.of("T" + (i % 40)), new HomeworkTracker()));
+        }
+
+        String word = sampleName.substring(0, sampleName.indexOf(' '));
+        exactName = Collections.singletonList(word);
+        namePrefix = Collections.singletonList(word.substring(0, 3));
+        nameWithTypo = Collections.singletonList(word.substring(0, 2) + "x" + word.substring(3));
+        nusnetidPrefix = Collections.singletonList("E00012");
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 2 + random.nextInt(3); i > 0; i--) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+
+    @Benchmark
+    public SearchResult exactName() {
+        return index.search(exactName);
+    }
+
+    @Benchmark
+    public SearchResult namePrefix() {
+        return index.search(namePrefix);
+    }
+
+    @Benchmark
+    public SearchResult nameWithTypo() {
+        return index.search(nameWithTypo);
+    }
+
+    @Benchmark
+    public SearchResult nusnetidPrefix() {
+        return index.search(nusnetidPrefix);
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Slot;
+import seedu.address.model.person.Telegram;
+
+/**
+ * Compares loading and saving the address book in the JSON and binary file formats.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AddressBookStorageBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private JsonAddressBookStorage jsonStorage;
+    private BinaryAddressBookStorage binaryStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            HomeworkTracker homework = new HomeworkTracker().addHomework(1).addHomework(2)
+                    .updateStatus(1, "complete");
+            addressBook.addPerson(new Person(new Name("Student " + i), new Phone("9" + (1000000 + i)),
+                    new Email("student" + i + "@u.nus.edu"), new Nusnetid(String.format("E%07d", i)),
+                    new Telegram("@student" + i), new Slot("T" + (i % 40)), homework));
+        }
+
+        Path folder = Files.createTempDirectory("storage-benchmark");
+        jsonStorage = new JsonAddressBookStorage(folder.resolve("addressbook.json"), 0);
+        binaryStorage = new BinaryAddressBookStorage(folder.resolve("addressbook.bin"), 0);
+        jsonStorage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void saveJson() throws IOException {
+        jsonStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void saveBinary() throws IOException {
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadJson() throws DataLoadingException {
+        return jsonStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadBinary() throws DataLoadingException {
+        return binaryStorage.readAddressBook().get();
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Slot;
+import seedu.address.model.person.Telegram;
+
+/**
+ * Compares the ways of loading a JSON address book file: reading the whole file into a {@code String} and mapping it,
+ * streaming it from a file channel, and streaming it from a memory mapping.
+ * Run with {@code ./gradlew jmh}. Add {@code -prof gc} to the JMH arguments to compare the heap allocated per load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonAddressBookLoadBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private Path filePath;
+
+    @Setup
+    public void setUp() throws IOException {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            HomeworkTracker homework = new HomeworkTracker().addHomework(1).addHomework(2)
+                    .updateStatus(1, "complete");
+            addressBook.addPerson(new Person(new Name("Student " + i), new Phone("9" + (1000000 + i)),
+                    new Email("student" + i + "@u.nus.edu"), new Nusnetid(String.format("E%07d", i)),
+                    new Telegram("@student" + i), new Slot("T" + (i % 40)), homework));
+        }
+
+        filePath = Files.createTempDirectory("load-benchmark").resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath, 0).saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public AddressBook readString() throws Exception {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType();
+    }
+
+    @Benchmark
+    public AddressBook streamChannel() throws IOException, IllegalValueException {
+        return JsonAddressBookStorage.readFrom(Files.newInputStream(filePath));
+    }
+
+    @Benchmark
+    public AddressBook streamMapped() throws IOException, IllegalValueException {
+        return JsonAddressBookStorage.readFrom(FileUtil.newMappedInputStream(filePath));
+    }
+}
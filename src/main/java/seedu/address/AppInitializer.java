@@ -0,0 +1,245 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Sets up the components of the application other than the UI: the config, storage, model and logic.
+ * Used by both the GUI and the headless modes of the application, so it must not depend on JavaFX.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private final boolean isHeadless;
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    /**
+     * Initializes the components of the application as specified by {@code appParameters}.
+     * If {@code appParameters} is headless, the config and preference files are only read, not updated, and a missing
+     * data file is replaced by an empty address book rather than the sample one, so that scripted runs start quickly
+     * and change nothing but the data they are given.
+     */
+    public AppInitializer(AppParameters appParameters) {
+        isHeadless = appParameters.isHeadless();
+        config = initConfig(appParameters.getConfigPath());
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = new JournaledAddressBookStorage(initSnapshotStorage(userPrefs));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        model = initModelManager(storage, userPrefs);
+
+        LogicManager logicManager = new LogicManager(model, storage);
+        if (isHeadless) {
+            // Commands that only read the data do not need to save it, as the GUI does to create the data file
+            logicManager.markAddressBookSaved();
+        }
+        logic = logicManager;
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the address book file format chosen in {@code userPrefs}.
+     * A binary data file is kept apart from the JSON data file it replaces, as given by
+     * {@link BinaryAddressBookStorage#getBinaryFilePath(Path)}.
+     */
+    private AddressBookStorage initSnapshotStorage(ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file format : " + userPrefs.getAddressBookFileFormat());
+        switch (userPrefs.getAddressBookFileFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(
+                    BinaryAddressBookStorage.getBinaryFilePath(userPrefs.getAddressBookFilePath()));
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book (or an empty address book, if headless) will be used instead if
+     * {@code storage}'s address book is not found, or an empty address book will be used instead if errors occur
+     * when reading {@code storage}'s address book.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (addressBookOptional.isPresent()) {
+                initialData = addressBookOptional.get();
+            } else if (isHeadless) {
+                logger.info("Data file " + storage.getAddressBookFilePath()
+                        + " not found. Will be starting with an empty AddressBook.");
+                initialData = new AddressBook();
+            } else {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+                initialData = SampleDataUtil.getSampleAddressBook();
+            }
+        } catch (DataLoadingException e) {
+            initialData = readAddressBookBackup(storage).orElseGet(() -> {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with an empty AddressBook.");
+                return new AddressBook();
+            });
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    /**
+     * Returns the data from the most recent backup of {@code storage}'s address book that can be loaded,
+     * or {@code Optional.empty()} if there is none.
+     */
+    private Optional<ReadOnlyAddressBook> readAddressBookBackup(Storage storage) {
+        Path filePath = storage.getAddressBookFilePath();
+        for (int generation = 1; FileUtil.isFileExists(FileUtil.getBackupFilePath(filePath, generation));
+                generation++) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath, generation);
+            try {
+                Optional<ReadOnlyAddressBook> backup = storage.readAddressBook(backupFilePath);
+                if (backup.isPresent()) {
+                    logger.warning("Data file at " + filePath + " could not be loaded."
+                            + " Will be starting with the backup at " + backupFilePath + ".");
+                    return backup;
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Backup data file at " + backupFilePath + " could not be loaded either.");
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null. Unless headless, the file is then updated with the config used.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent() && !isHeadless) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        if (isHeadless) {
+            return initializedConfig;
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file. Unless headless, the file is then updated with the preferences used.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent() && !isHeadless) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        if (isHeadless) {
+            return initializedPrefs;
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -17,7 +18,12 @@ import seedu.address.commons.util.ToStringBuilder;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    /** Command-line flag to read commands from standard input instead of starting the GUI. */
+    public static final String HEADLESS_FLAG = "--headless";
+
     private Path configPath;
+    private Path scriptPath;
+    private boolean isHeadless;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,23 +33,81 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script to run without the GUI, or null if the GUI should be started.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns true if the application should run without the GUI, either because the {@value #HEADLESS_FLAG} flag
+     * was given or because there is a script to run.
+     */
+    public boolean isHeadless() {
+        return isHeadless || scriptPath != null;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
-        AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
+        return parse(parameters.getNamed());
+    }
 
-        String configPathParameter = namedParameters.get("config");
-        if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
-            logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
-            configPathParameter = null;
+    /**
+     * Parses the raw command-line arguments of the application, of which the {@value #HEADLESS_FLAG} flag and named
+     * parameters of the form {@code --name=value}, as in {@link Application.Parameters#getNamed()}, are recognized.
+     * Unlike {@link #parse(Application.Parameters)}, this does not need the JavaFX toolkit.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        boolean isHeadless = false;
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.equals(HEADLESS_FLAG)) {
+                isHeadless = true;
+            } else if (arg.startsWith("--") && separator > 2) {
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
         }
-        appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        AppParameters appParameters = parse(namedParameters);
+        appParameters.setHeadless(isHeadless);
+        return appParameters;
+    }
 
+    private static AppParameters parse(Map<String, String> namedParameters) {
+        AppParameters appParameters = new AppParameters();
+        appParameters.setConfigPath(parsePath(namedParameters.get("config"),
+                "Invalid config path %s. Using default config path."));
+        appParameters.setScriptPath(parsePath(namedParameters.get("run"),
+                "Invalid script path %s. Starting the GUI instead."));
         return appParameters;
     }
 
+    /**
+     * Returns {@code pathParameter} as a path, or null if it is missing or invalid.
+     * If it is invalid, logs {@code invalidPathWarning} formatted with {@code pathParameter}.
+     */
+    private static Path parsePath(String pathParameter, String invalidPathWarning) {
+        if (pathParameter == null) {
+            return null;
+        }
+        if (!FileUtil.isValidPath(pathParameter)) {
+            logger.warning(String.format(invalidPathWarning, pathParameter));
+            return null;
+        }
+        return Paths.get(pathParameter);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +120,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && isHeadless == otherAppParameters.isHeadless;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, isHeadless);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("isHeadless", isHeadless)
                 .toString();
     }
 }
@@ -0,0 +1,113 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without the GUI, for scripted bulk operations. <br>
+ * With the {@code --run=FILE} parameter, the commands in the file are run with the {@code run} command, so they are
+ * applied and saved as a single change. Otherwise, with the {@value AppParameters#HEADLESS_FLAG} flag, commands are
+ * read from the given input, one per line, and run as if they were typed into the GUI until the input ends or an
+ * {@code exit} command is run. Either way, the results are written to the given output.
+ */
+public class HeadlessApp {
+
+    /** Exit status when every command succeeded and the address book was saved. */
+    public static final int EXIT_SUCCESS = 0;
+
+    /** Exit status when the commands could not be read, any command failed, or saving failed. */
+    public static final int EXIT_FAILURE = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    /**
+     * Runs the commands from the script given in {@code appParameters}, or from {@code in} if there is none, writing
+     * the results to {@code out}, and returns the exit status of the application.
+     */
+    public static int run(AppParameters appParameters, InputStream in, PrintStream out) {
+        requireNonNull(in);
+        requireNonNull(out);
+        logger.info("=============================[ Starting AddressBook without the GUI ]===========");
+
+        Logic logic = new AppInitializer(appParameters).getLogic();
+        AtomicBoolean hasSaveFailed = new AtomicBoolean();
+        logic.setSaveErrorHandler(message -> {
+            hasSaveFailed.set(true);
+            out.println(message);
+        });
+
+        boolean hasSucceeded;
+        try {
+            hasSucceeded = appParameters.getScriptPath() != null
+                    ? runScript(logic, appParameters.getScriptPath(), out)
+                    : runCommands(logic, in, out);
+        } finally {
+            logic.flushPendingSaves();
+        }
+        return hasSucceeded && !hasSaveFailed.get() ? EXIT_SUCCESS : EXIT_FAILURE;
+    }
+
+    /**
+     * Runs the script at {@code scriptPath} and returns true if every command in it succeeded.
+     */
+    private static boolean runScript(Logic logic, Path scriptPath, PrintStream out) {
+        try {
+            CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+            out.println(result.getFeedbackToUser());
+            return !(result instanceof RunCommand.ScriptResult)
+                    || ((RunCommand.ScriptResult) result).getFailures().isEmpty();
+        } catch (CommandException | ParseException e) {
+            out.println(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Runs the commands read from {@code in}, skipping blank lines and comments, and returns true if every command
+     * succeeded.
+     */
+    private static boolean runCommands(Logic logic, InputStream in, PrintStream out) {
+        boolean hasSucceeded = true;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        try {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(RunCommand.COMMENT_MARKER)) {
+                    continue;
+                }
+                try {
+                    CommandResult result = logic.execute(commandText);
+                    out.println(result.getFeedbackToUser());
+                    if (result.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    out.println(e.getMessage());
+                    hasSucceeded = false;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to read commands : " + StringUtil.getDetails(e));
+            out.println(e.getMessage());
+            hasSucceeded = false;
+        }
+        return hasSucceeded;
+    }
+}
@@ -1,17 +1,31 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final String CHARSET = "UTF-8";
+    private static final boolean IS_WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,12 +86,224 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns true if {@code file} can be read through {@link #newMappedInputStream(Path)}.
+     * A file stays mapped until its buffer is garbage collected, and Windows does not allow replacing a mapped file,
+     * so mapping is not used there because it would make the next atomic write to the file fail.
+     */
+    public static boolean canMapFile(Path file) throws IOException {
+        return !IS_WINDOWS && Files.size(file) <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns an {@code InputStream} that reads {@code file} through a read-only memory mapping, so the file's
+     * content is paged in by the operating system instead of being copied onto the heap.
+     * The file must be smaller than 2 GB, see {@link #canMapFile(Path)}.
+     */
+    public static InputStream newMappedInputStream(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, see {@link #writeToFileAtomically(Path, ContentWriter, int)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, out -> out.write(bytes), 0);
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, creating the file and its missing parent
+     * directories if they do not exist yet.
+     * <p>
+     * The content is written to a temporary file next to {@code file}, forced to the disk, and then moved over
+     * {@code file} in one atomic step, so {@code file} holds either its old or its new content even if writing fails
+     * halfway. The directory is then forced too where the platform allows it, so the move itself survives a crash.
+     * Before the move, the old content is kept as backup 1 and the older backups are shifted up to
+     * {@code backupCount}, see {@link #getBackupFilePath(Path, int)}. The new file keeps the permissions of the file
+     * it replaces, or gets the default permissions of new files if there is none.
+     * </p>
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, int backupCount)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = createTempFileNextTo(file);
+        try {
+            if (isFileExists(file)) {
+                copyPermissions(file, tempFile);
+            }
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                try (OutputStream out = new UnclosableOutputStream(Channels.newOutputStream(channel))) {
+                    contentWriter.writeTo(out);
+                }
+                channel.force(true);
+            }
+            if (backupCount > 0 && isFileExists(file)) {
+                rotateBackups(file, backupCount);
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Creates an empty file with a new random name next to {@code file} and returns its path.
+     * Unlike {@link Files#createTempFile}, which makes the file readable by its owner only, this gives the file the
+     * default permissions of new files.
+     */
+    private static Path createTempFileNextTo(Path file) throws IOException {
+        while (true) {
+            Path tempFile = file.resolveSibling(file.getFileName() + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                return Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException e) {
+                // try another name
+            }
+        }
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if the file system has them.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (Files.getFileStore(source).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, if the platform allows directories to be opened.
+     */
+    private static void forceDirectory(Path directory) {
+        if (IS_WINDOWS) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not every file system can force a directory, and the file is already written by now
+        }
+    }
+
+    /**
+     * Returns the path of the given backup {@code generation} of {@code file}, where 1 is the most recent backup.
+     */
+    public static Path getBackupFilePath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Shifts each backup of {@code file} up by one generation, dropping the oldest, and keeps the current content of
+     * {@code file} as backup 1.
+     */
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        Files.deleteIfExists(getBackupFilePath(file, backupCount));
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = getBackupFilePath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFilePath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        // a hard link keeps the old content without copying it, as the atomic move gives file a new inode
+        Path latestBackup = getBackupFilePath(file, 1);
+        try {
+            Files.createLink(latestBackup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, latestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes content to an {@code OutputStream}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}. {@code out} may be closed, but does not have to be.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * An {@code InputStream} that reads the remaining bytes of a {@code ByteBuffer}.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    /**
+     * An {@code OutputStream} that only flushes the wrapped stream when it is closed, so that the file it writes to
+     * can still be forced afterwards.
+     */
+    private static class UnclosableOutputStream extends OutputStream {
+        private final OutputStream out;
+
+        UnclosableOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
     }
 
 }
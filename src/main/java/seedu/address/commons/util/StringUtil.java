@@ -5,7 +5,6 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
@@ -27,15 +26,79 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        // Same bounds as word.trim()
+        int wordStart = 0;
+        int wordEnd = word.length();
+        while (wordStart < wordEnd && word.charAt(wordStart) <= ' ') {
+            wordStart++;
+        }
+        while (wordEnd > wordStart && word.charAt(wordEnd - 1) <= ' ') {
+            wordEnd--;
+        }
+        int wordLength = wordEnd - wordStart;
+        checkArgument(wordLength > 0, "Word parameter cannot be empty");
+        checkArgument(!containsWhitespace(word, wordStart, wordEnd), "Word parameter should be a single word");
+
+        // Compares every run of non-whitespace characters in place, as split("\\s+") would produce them
+        int i = 0;
+        while (i < sentence.length()) {
+            while (i < sentence.length() && isWhitespace(sentence.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < sentence.length() && !isWhitespace(sentence.charAt(i))) {
+                i++;
+            }
+            if (i - start == wordLength && sentence.regionMatches(true, start, word, wordStart, wordLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by the regex {@code \s}, i.e. is one of the ASCII whitespace characters.
+     * Other Unicode whitespace, such as no-break spaces, is part of a word.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean containsWhitespace(String s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (isWhitespace(s.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code s} with every character mapped to a single case, such that two strings are equal after folding
+     * exactly when {@link String#equalsIgnoreCase(String)} considers them equal.
+     * Returns {@code s} itself if it is already folded.
+     * @param s cannot be null
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        int i = 0;
+        while (i < s.length() && foldCase(s.charAt(i)) == s.charAt(i)) {
+            i++;
+        }
+        if (i == s.length()) {
+            return s;
+        }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        char[] folded = s.toCharArray();
+        for (; i < folded.length; i++) {
+            folded[i] = foldCase(folded[i]);
+        }
+        return new String(folded);
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    private static char foldCase(char c) {
+        // Mirrors the per-character comparison of String#equalsIgnoreCase
+        return Character.toLowerCase(Character.toUpperCase(c));
     }
 
     /**
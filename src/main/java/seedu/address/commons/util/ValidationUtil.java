@@ -0,0 +1,42 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hand-written checks for simple validation formats, which are much cheaper than matching the equivalent regular
+ * expressions. Like {@code \d} in a {@code java.util.regex.Pattern}, a digit here is one of the ASCII digits 0 to 9.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} consists of {@code prefix} followed by at least {@code minDigits} and at most
+     * {@code maxDigits} digits, i.e. if it matches {@code prefix\d{minDigits,maxDigits}}.
+     */
+    public static boolean isPrefixedDigits(String test, String prefix, int minDigits, int maxDigits) {
+        requireNonNull(test);
+        requireNonNull(prefix);
+
+        int digitCount = test.length() - prefix.length();
+        return digitCount >= minDigits && digitCount <= maxDigits && test.startsWith(prefix)
+                && areDigits(test, prefix.length());
+    }
+
+    /**
+     * Returns true if {@code test} consists of at least {@code minDigits} digits, i.e. if it matches
+     * {@code \d{minDigits,}}.
+     */
+    public static boolean isDigits(String test, int minDigits) {
+        requireNonNull(test);
+        return test.length() >= minDigits && areDigits(test, 0);
+    }
+
+    private static boolean areDigits(String test, int fromIndex) {
+        for (int i = fromIndex; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,18 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given the error message when saving the address book fails.
+     * Saving happens in the background after {@link #execute(String)} returns, so the handler is called on a
+     * background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Blocks until the address book changes made by all commands executed so far have been saved.
+     */
+    void flushPendingSaves();
+
     /**
      * Returns the AddressBook.
      *
@@ -34,7 +47,7 @@ public interface Logic {
     ObservableList<Person> getFilteredPersonList();
 
     /**
-     * Returns the user prefs' address book file path.
+     * Returns the path of the file the address book is saved to.
      */
     Path getAddressBookFilePath();
 
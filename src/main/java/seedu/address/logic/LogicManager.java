@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,6 +19,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,11 +31,22 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long NOT_SAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final BackgroundAddressBookSaver addressBookSaver;
+
+    /**
+     * Version of the address book data last handed to {@code addressBookSaver}, or {@code NOT_SAVED} if it has not
+     * been saved yet or the last save failed.
+     */
+    private volatile long savedVersion = NOT_SAVED;
+    private int skippedSaveCount;
+    private volatile Consumer<String> saveErrorHandler = message -> { };
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -40,6 +55,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        addressBookSaver = new BackgroundAddressBookSaver(storage, this::handleSaveFailure);
     }
 
     @Override
@@ -50,17 +66,56 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        long version = model.getAddressBookVersion();
+        if (savedVersion == version) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipped save #" + skippedSaveCount);
+            return commandResult;
         }
 
+        savedVersion = version;
+        addressBookSaver.save(model.getAddressBook());
         return commandResult;
     }
 
+    /**
+     * Called on the saver's thread when saving the address book fails.
+     */
+    private void handleSaveFailure(IOException e) {
+        savedVersion = NOT_SAVED;
+        String message = e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+        saveErrorHandler.accept(message);
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        addressBookSaver.flush();
+    }
+
+    /**
+     * Records the current address book data as saved, so that it is only saved after a command changes it.
+     * Used when the data has just been read from storage and does not need to be written back.
+     */
+    public void markAddressBookSaved() {
+        savedVersion = model.getAddressBookVersion();
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book data had not changed
+     * since the last successful save.
+     */
+    public int getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -73,7 +128,7 @@ public class LogicManager implements Logic {
 
     @Override
     public Path getAddressBookFilePath() {
-        return model.getAddressBookFilePath();
+        return storage.getAddressBookFilePath();
     }
 
     @Override
@@ -18,6 +18,8 @@ public class Messages {
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
+    public static final String MESSAGE_UNDEFINED_ASSIGNMENT =
+            "Assignment %1$d is not defined. Define it first using 'defhw'.";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
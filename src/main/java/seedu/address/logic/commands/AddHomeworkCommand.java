@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -34,7 +35,8 @@ public class AddHomeworkCommand extends Command {
             + "Example (all): " + COMMAND_WORD + " all a/1";;
 
     public static final String MESSAGE_SUCCESS_ONE = "Added assignment %d for %s (default incomplete).";
-    public static final String MESSAGE_SUCCESS_ALL = "Added assignment %d for all students (default incomplete).";
+    public static final String MESSAGE_SUCCESS_ALL =
+            "Added assignment %d for all students (default incomplete). %d student(s) updated.";
     public static final String MESSAGE_STUDENT_NOT_FOUND = "Student not found.";
 
     private final String nusnetId; // can be "all" for all students
@@ -60,27 +62,24 @@ public class AddHomeworkCommand extends Command {
      *
      * @param model the model containing the student data
      * @return a {@code CommandResult} containing a success message
-     * @throws CommandException if the target student is not found
+     * @throws CommandException if the assignment is not defined or the target student is not found
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
+        if (!model.hasAssignment(assignmentId)) {
+            throw new CommandException(String.format(Messages.MESSAGE_UNDEFINED_ASSIGNMENT, assignmentId));
+        }
+
         if (nusnetId.equalsIgnoreCase("all")) {
-            // add homework for every student
-            for (Person p : model.getFilteredPersonList()) {
-                model.setPerson(p, p.withAddedHomework(assignmentId));
-            }
-            return new CommandResult(String.format(MESSAGE_SUCCESS_ALL, assignmentId));
+            // add homework for every student in a single update to the model
+            int updatedCount = model.updatePersons(model.getFilteredPersonList(),
+                    person -> person.withAddedHomework(assignmentId));
+            return new CommandResult(String.format(MESSAGE_SUCCESS_ALL, assignmentId, updatedCount));
         } else {
-            Person target = model.getFilteredPersonList().stream()
-                    .filter(p -> p.getNusnetid().value.equalsIgnoreCase(nusnetId))
-                    .findFirst()
-                    .orElse(null);
-
-            if (target == null) {
-                throw new CommandException(MESSAGE_STUDENT_NOT_FOUND);
-            }
+            Person target = model.getPersonByNusnetid(nusnetId)
+                    .orElseThrow(() -> new CommandException(MESSAGE_STUDENT_NOT_FOUND));
 
             Person updated = target.withAddedHomework(assignmentId);
             model.setPerson(target, updated);
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DUE_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.assignment.Assignment;
+
+/**
+ * Defines an assignment in the address book, or updates the definition of an existing one.
+ * Homework for the assignment can then be added to students with {@link AddHomeworkCommand}.
+ */
+public class DefineAssignmentCommand extends Command {
+
+    public static final String COMMAND_WORD = "defhw";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Defines an assignment, or updates its definition. "
+            + "Parameters: "
+            + PREFIX_ASSIGNMENT + "ASSIGNMENT_ID "
+            + PREFIX_NAME + "TITLE "
+            + "[" + PREFIX_DUE_DATE + "DUE_DATE (YYYY-MM-DD)]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_ASSIGNMENT + "4 "
+            + PREFIX_NAME + "Problem Set 4 "
+            + PREFIX_DUE_DATE + "2026-02-06";
+
+    public static final String MESSAGE_SUCCESS = "Assignment %1$d defined: %2$s";
+    public static final String MESSAGE_UPDATED = "Assignment %1$d updated: %2$s";
+
+    private final Assignment toDefine;
+
+    /**
+     * Creates a DefineAssignmentCommand to define the specified {@code Assignment}
+     */
+    public DefineAssignmentCommand(Assignment assignment) {
+        requireNonNull(assignment);
+        toDefine = assignment;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        String message = model.hasAssignment(toDefine.getId()) ? MESSAGE_UPDATED : MESSAGE_SUCCESS;
+        model.setAssignment(toDefine);
+        return new CommandResult(String.format(message, toDefine.getId(), toDefine.getTitle()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DefineAssignmentCommand)) {
+            return false;
+        }
+
+        DefineAssignmentCommand otherCommand = (DefineAssignmentCommand) other;
+        return toDefine.equals(otherCommand.toDefine);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("toDefine", toDefine)
+                .toString();
+    }
+}
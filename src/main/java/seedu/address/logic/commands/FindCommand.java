@@ -6,30 +6,48 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.search.PersonQuery;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book matching a query, best match first.
+ * Plain keywords match a person's name, NUSNET ID, email, Telegram handle or slot case insensitively, allowing
+ * prefixes and small typos. Prefixed clauses match a single field, and clauses can be combined with AND, OR and NOT.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose name, NUSNET ID, email, "
+            + "Telegram handle or slot matches any of the specified keywords (case-insensitive, allowing prefixes "
+            + "and small typos) and displays them as a list with index numbers, best match first.\n"
+            + "Clauses n/NAME, p/PHONE, e/EMAIL, i/NUSNETID, t/TELEGRAM and s/SLOT match one field exactly, or by "
+            + "prefix if the value ends with *. hw/ASSIGNMENT_ID:STATUS matches a homework status. "
+            + "Clauses can be combined with AND (the default), OR, NOT and parentheses.\n"
+            + "Parameters: KEYWORD_OR_CLAUSE [MORE_KEYWORDS_OR_CLAUSES]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " (s/T03 OR s/T04) hw/2:late NOT i/E12*";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final PersonQuery query;
 
+    /**
+     * Creates a FindCommand to find persons matching any of the keywords of {@code predicate}.
+     */
     public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(PersonQuery.keywords(predicate.getKeywords()));
+    }
+
+    /**
+     * Creates a FindCommand to find persons matching {@code query}.
+     */
+    public FindCommand(PersonQuery query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(query);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -46,13 +64,13 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return query.equals(otherFindCommand.query);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("predicate", predicate)
+                .add("query", query)
                 .toString();
     }
 }
@@ -2,8 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.HomeworkTracker;
@@ -34,7 +33,6 @@ public class MarkHomeworkCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Assignment %d for %s marked %s.";
     public static final String MESSAGE_STUDENT_NOT_FOUND = "Student not found.";
-    public static final String MESSAGE_INVALID_ASSIGNMENT = "Assignment not found.";
     public static final String MESSAGE_INVALID_STATUS = "Please enter complete/incomplete/late only.";
 
     private final String nusnetId;
@@ -63,36 +61,18 @@ public class MarkHomeworkCommand extends Command {
      *
      * @param model the model containing student data
      * @return a {@code CommandResult} containing a success message
-     * @throws CommandException if the student is not found, the assignment does not exist, or the status is invalid
+     * @throws CommandException if the student is not found, the assignment is not defined or does not exist for the
+     *                          student, or the status is invalid
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Person> list = model.getFilteredPersonList();
-
-        // find by nusnetId — adapt depending on your Person fields.
-        Person target = list.stream()
-                .filter(p -> {
-                    // prefer using a dedicated nusnetId field if you have one:
-                    try {
-                        // If you have getNetId(), uncomment next line and remove the fallback
-                        // return p.getNetId().value.equalsIgnoreCase(netId);
-                    } catch (Exception e) {
-                        System.out.println("Unable to mark the homework");
-                    }
-                    // fallback: match by email or name
-                    return p.getNusnetid().value.equalsIgnoreCase(nusnetId);
-                })
-                .findFirst()
-                .orElse(null);
-
-        if (target == null) {
-            throw new CommandException(MESSAGE_STUDENT_NOT_FOUND);
-        }
+        Person target = model.getPersonByNusnetid(nusnetId)
+                .orElseThrow(() -> new CommandException(MESSAGE_STUDENT_NOT_FOUND));
 
-        if (!HomeworkTracker.isValidAssignmentId(assignmentId)) {
-            throw new CommandException(MESSAGE_INVALID_ASSIGNMENT);
+        if (!model.hasAssignment(assignmentId)) {
+            throw new CommandException(String.format(Messages.MESSAGE_UNDEFINED_ASSIGNMENT, assignmentId));
         }
 
         if (!HomeworkTracker.isValidStatus(status)) {
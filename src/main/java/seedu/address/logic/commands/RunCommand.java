@@ -0,0 +1,172 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Runs the commands in a script file, one per line, as a single change to the address book.
+ * The commands are applied to a copy of the address book, which replaces the address book once the whole script has
+ * run, so the address book is updated and saved only once. Commands that fail are reported and skipped.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    /** Lines starting with this are comments. */
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line. "
+            + "Blank lines and lines starting with " + COMMENT_MARKER + " are ignored. "
+            + "Commands that fail are reported and skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/cohort.txt";
+
+    public static final String MESSAGE_SUCCESS =
+            "Ran %1$d commands from %2$s in %3$d ms (%4$.0f commands/s): %5$d succeeded, %6$d failed.";
+    public static final String MESSAGE_FAILURE = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_FAILURES = "... and %1$d more failures.";
+    public static final String MESSAGE_READ_ERROR = "Could not read script %1$s: %2$s";
+    public static final String MESSAGE_NESTED_RUN = "Scripts cannot run other scripts.";
+
+    /** Number of failures listed in the result, so that a script with many failures gives a readable result. */
+    static final int MAX_REPORTED_FAILURES = 20;
+
+    private final Path scriptPath;
+    private final AddressBookParser parser;
+
+    /**
+     * Creates a RunCommand to run the script at {@code scriptPath}, parsing its lines with {@code parser}.
+     */
+    public RunCommand(Path scriptPath, AddressBookParser parser) {
+        requireNonNull(scriptPath);
+        requireNonNull(parser);
+        this.scriptPath = scriptPath;
+        this.parser = parser;
+    }
+
+    @Override
+    public ScriptResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long startTime = System.nanoTime();
+
+        Model workingModel = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+        long initialVersion = workingModel.getAddressBookVersion();
+        int commandCount = 0;
+        List<String> failures = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                String trimmedLine = line.trim();
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+                commandCount++;
+                String failure = runLine(trimmedLine, workingModel);
+                if (failure != null) {
+                    failures.add(String.format(MESSAGE_FAILURE, lineNumber, failure));
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, scriptPath, e.getMessage()), e);
+        }
+
+        if (workingModel.getAddressBookVersion() != initialVersion) {
+            model.setAddressBook(workingModel.getAddressBook());
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - startTime);
+        return new ScriptResult(formatReport(commandCount, failures, elapsedNanos), commandCount, failures);
+    }
+
+    /**
+     * Runs {@code line} against {@code workingModel}, and returns the reason it failed, or null if it succeeded.
+     */
+    private String runLine(String line, Model workingModel) {
+        try {
+            Command command = parser.parseCommand(line);
+            if (command instanceof RunCommand) {
+                return MESSAGE_NESTED_RUN;
+            }
+            command.execute(workingModel);
+            return null;
+        } catch (ParseException | CommandException e) {
+            return e.getMessage();
+        }
+    }
+
+    private String formatReport(int commandCount, List<String> failures, long elapsedNanos) {
+        double commandsPerSecond = commandCount * 1e9 / elapsedNanos;
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SUCCESS, commandCount, scriptPath,
+                elapsedNanos / 1_000_000, commandsPerSecond, commandCount - failures.size(), failures.size()));
+        for (int i = 0; i < Math.min(failures.size(), MAX_REPORTED_FAILURES); i++) {
+            report.append('\n').append(failures.get(i));
+        }
+        if (failures.size() > MAX_REPORTED_FAILURES) {
+            report.append('\n').append(String.format(MESSAGE_MORE_FAILURES,
+                    failures.size() - MAX_REPORTED_FAILURES));
+        }
+        return report.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .toString();
+    }
+
+    /**
+     * The result of running a script, with the number of commands run and the failures among them.
+     */
+    public static class ScriptResult extends CommandResult {
+        private final int commandCount;
+        private final List<String> failures;
+
+        ScriptResult(String feedbackToUser, int commandCount, List<String> failures) {
+            super(feedbackToUser);
+            this.commandCount = commandCount;
+            this.failures = List.copyOf(failures);
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        /**
+         * Returns a description of each command that failed, including its line number.
+         */
+        public List<String> getFailures() {
+            return failures;
+        }
+    }
+}
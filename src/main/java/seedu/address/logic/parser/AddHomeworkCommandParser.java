@@ -7,6 +7,7 @@ import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddHomeworkCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.HomeworkTracker;
 
 /**
  * Parses input arguments and creates a new {@link AddHomeworkCommand} object.
@@ -16,7 +17,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  *     <li>{@code i/<nusnetId> a/<assignmentId>} to add homework to a specific student</li>
  *     <li>{@code all a/<assignmentId>} to add homework to all students</li>
  * </ul>
- * Assignment IDs must be integers between 1 and 3.
+ * Assignment IDs must be integers between 1 and {@link HomeworkTracker#MAX_ASSIGNMENTS}; whether the assignment is
+ * defined is checked when the command is executed.
  * </p>
  *
  * <p>Example usage:</p>
@@ -52,29 +54,17 @@ public class AddHomeworkCommandParser implements Parser<AddHomeworkCommand> {
 
         String nusnetId = matcher.group("nusnetId");
 
-        int assignmentId;
+        String assignmentId;
         if (nusnetId != null) {
             // Case 1: i/<netid> matched
             // nusnetId is already captured
-            try {
-                assignmentId = Integer.parseInt(matcher.group("assignmentId"));
-            } catch (NumberFormatException e) {
-                throw new ParseException("Assignment id must be an integer between 1 and 3.");
-            }
+            assignmentId = matcher.group("assignmentId");
         } else {
             // Case 2: all matched
             nusnetId = "all";
-            try {
-                assignmentId = Integer.parseInt(matcher.group("assignmentIdAll"));
-            } catch (NumberFormatException e) {
-                throw new ParseException("Assignment id must be an integer between 1 and 3.");
-            }
+            assignmentId = matcher.group("assignmentIdAll");
         }
 
-        if (assignmentId < 1 || assignmentId > 3) {
-            throw new ParseException("Assignment id must be between 1 and 3.");
-        }
-
-        return new AddHomeworkCommand(nusnetId, assignmentId);
+        return new AddHomeworkCommand(nusnetId, ParserUtil.parseAssignmentId(assignmentId));
     }
 }
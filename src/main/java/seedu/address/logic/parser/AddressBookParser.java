@@ -1,36 +1,78 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddHomeworkCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DefineAssignmentCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkHomeworkCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The first word of the input selects the parser of the rest from a {@link CommandRegistry}.
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    /** Registry of the built-in commands, shared so that each parser is only created once. */
+    private static final CommandRegistry DEFAULT_REGISTRY = createDefaultRegistry();
+
+    private final CommandRegistry registry;
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates an {@code AddressBookParser} for the built-in commands.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        this(DEFAULT_REGISTRY);
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} for the commands in {@code registry}.
+     */
+    public AddressBookParser(CommandRegistry registry) {
+        requireNonNull(registry);
+        this.registry = registry;
+    }
+
+    /**
+     * Returns a new registry of the built-in commands, to which more commands can be added.
+     */
+    public static CommandRegistry createDefaultRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(AddCommand.COMMAND_WORD, AddCommandParser::new);
+        registry.register(EditCommand.COMMAND_WORD, EditCommandParser::new);
+        registry.register(DeleteCommand.COMMAND_WORD, DeleteCommandParser::new);
+        registry.register(ClearCommand.COMMAND_WORD, () -> arguments -> new ClearCommand());
+        registry.register(FindCommand.COMMAND_WORD, FindCommandParser::new);
+        registry.register(ListCommand.COMMAND_WORD, () -> arguments -> new ListCommand());
+        registry.register(ExitCommand.COMMAND_WORD, () -> arguments -> new ExitCommand());
+        registry.register(HelpCommand.COMMAND_WORD, () -> arguments -> new HelpCommand());
+        registry.register(AddHomeworkCommand.COMMAND_WORD, AddHomeworkCommandParser::new);
+        registry.register(MarkHomeworkCommand.COMMAND_WORD, MarkHomeworkCommandParser::new);
+        registry.register(DefineAssignmentCommand.COMMAND_WORD, DefineAssignmentCommandParser::new);
+        registry.register(ExportCommand.COMMAND_WORD, ExportCommandParser::new);
+        // Scripts may use any command of this registry, including ones registered later
+        registry.register(RunCommand.COMMAND_WORD, () -> new RunCommandParser(new AddressBookParser(registry)));
+        return registry;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -40,55 +82,29 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        int wordEnd = 0;
+        while (wordEnd < trimmedInput.length() && !Character.isWhitespace(trimmedInput.charAt(wordEnd))) {
+            wordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, wordEnd);
+        final String arguments = trimmedInput.substring(wordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case AddHomeworkCommand.COMMAND_WORD:
-            return new AddHomeworkCommandParser().parse(arguments);
-
-        case MarkHomeworkCommand.COMMAND_WORD:
-            return new MarkHomeworkCommandParser().parse(arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
+        Optional<Parser<? extends Command>> parser = registry.getParser(commandWord);
+        if (parser.isEmpty()) {
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.get().parse(arguments);
     }
 
 }
@@ -12,5 +12,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_NUSNETID = new Prefix("i/");
     public static final Prefix PREFIX_TELEGRAM = new Prefix("t/");
     public static final Prefix PREFIX_SLOT = new Prefix("s/");
+    public static final Prefix PREFIX_ASSIGNMENT = new Prefix("a/");
+    public static final Prefix PREFIX_DUE_DATE = new Prefix("d/");
+    public static final Prefix PREFIX_HOMEWORK = new Prefix("hw/");
 
 }
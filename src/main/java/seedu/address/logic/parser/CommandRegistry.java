@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * Maps command words to the parsers of their arguments.
+ * Each parser is created the first time its command word is looked up and reused for every later command, so parsers
+ * registered here must be stateless.
+ */
+public class CommandRegistry {
+
+    private final Map<String, Registration> registrations = new HashMap<>();
+
+    /**
+     * Registers {@code parserFactory} to create the parser of commands starting with {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is blank, contains whitespace or is already registered
+     */
+    public void register(String commandWord, Supplier<? extends Parser<? extends Command>> parserFactory) {
+        requireNonNull(commandWord);
+        requireNonNull(parserFactory);
+        checkArgument(!commandWord.isEmpty() && commandWord.chars().noneMatch(Character::isWhitespace),
+                "Command words must be single words");
+        checkArgument(!registrations.containsKey(commandWord), "Command word already registered: " + commandWord);
+        registrations.put(commandWord, new Registration(parserFactory));
+    }
+
+    /**
+     * Returns the parser of commands starting with {@code commandWord}, if it is registered.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        requireNonNull(commandWord);
+        Registration registration = registrations.get(commandWord);
+        return registration == null ? Optional.empty() : Optional.of(registration.getParser());
+    }
+
+    /**
+     * Returns the registered command words.
+     */
+    public Set<String> getCommandWords() {
+        return Set.copyOf(registrations.keySet());
+    }
+
+    /**
+     * A registered parser factory, and the parser it created if the command has been looked up before.
+     */
+    private static class Registration {
+        private final Supplier<? extends Parser<? extends Command>> parserFactory;
+        private volatile Parser<? extends Command> parser;
+
+        Registration(Supplier<? extends Parser<? extends Command>> parserFactory) {
+            this.parserFactory = parserFactory;
+        }
+
+        Parser<? extends Command> getParser() {
+            Parser<? extends Command> result = parser;
+            if (result == null) {
+                // Parsers are stateless, so creating one twice in a race is harmless
+                result = requireNonNull(parserFactory.get());
+                parser = result;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DUE_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.logic.commands.DefineAssignmentCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.assignment.Assignment;
+
+/**
+ * Parses input arguments and creates a new DefineAssignmentCommand object
+ */
+public class DefineAssignmentCommandParser implements Parser<DefineAssignmentCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DefineAssignmentCommand
+     * and returns a DefineAssignmentCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DefineAssignmentCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_ASSIGNMENT, PREFIX_NAME, PREFIX_DUE_DATE);
+
+        if (argMultimap.getValue(PREFIX_ASSIGNMENT).isEmpty() || argMultimap.getValue(PREFIX_NAME).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    DefineAssignmentCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ASSIGNMENT, PREFIX_NAME, PREFIX_DUE_DATE);
+        int id = ParserUtil.parseAssignmentId(argMultimap.getValue(PREFIX_ASSIGNMENT).get());
+        String title = ParserUtil.parseAssignmentTitle(argMultimap.getValue(PREFIX_NAME).get());
+        Optional<String> dueDate = argMultimap.getValue(PREFIX_DUE_DATE);
+        LocalDate parsedDueDate = dueDate.isPresent() ? ParserUtil.parseDueDate(dueDate.get()) : null;
+
+        return new DefineAssignmentCommand(new Assignment(id, title, parsedDueDate));
+    }
+
+}
@@ -1,33 +1,257 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOMEWORK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUSNETID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SLOT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.search.PersonQuery;
+import seedu.address.model.search.SearchField;
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FindCommand object.
+ * <p>
+ * The arguments are a query made of clauses, which are either runs of plain keywords or a prefix followed by a value,
+ * e.g. {@code s/T03}, {@code i/E12*} or {@code hw/2:late}. Clauses may be combined with {@code AND}, {@code OR} and
+ * {@code NOT}, and grouped with parentheses. {@code NOT} binds tightest and {@code OR} loosest, and clauses written
+ * next to each other without an operator must all match.
+ * </p>
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final String OPERATOR_NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+    private static final String WILDCARD = "*";
+    private static final String HOMEWORK_SEPARATOR = ":";
+
+    private static final Prefix[] FIELD_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_NUSNETID,
+        PREFIX_TELEGRAM, PREFIX_SLOT, PREFIX_HOMEWORK};
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        List<String> tokens = tokenize(args);
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        return new FindCommand(new QueryParser(tokens).parseQuery());
+    }
+
+    /**
+     * Splits {@code args} at whitespace, and splits parentheses at the start or end of a word into their own tokens.
+     */
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            return tokens;
         }
+        for (String word : trimmedArgs.split("\\s+")) {
+            int start = 0;
+            while (start < word.length() && word.charAt(start) == '(') {
+                tokens.add(OPEN_PARENTHESIS);
+                start++;
+            }
+            int end = word.length();
+            while (end > start && word.charAt(end - 1) == ')') {
+                end--;
+            }
+            if (start < end) {
+                tokens.add(word.substring(start, end));
+            }
+            for (int i = end; i < word.length(); i++) {
+                tokens.add(CLOSE_PARENTHESIS);
+            }
+        }
+        return tokens;
+    }
+
+    private static PersonQuery parseField(String token) throws ParseException {
+        if (token.startsWith(PREFIX_HOMEWORK.getPrefix())) {
+            return parseHomework(token.substring(PREFIX_HOMEWORK.getPrefix().length()));
+        }
+        if (token.startsWith(PREFIX_PHONE.getPrefix())) {
+            String value = token.substring(PREFIX_PHONE.getPrefix().length());
+            return PersonQuery.phone(stripWildcard(value), isPrefixMatch(value));
+        }
+
+        SearchField field = getSearchField(token);
+        String value = token.substring(token.indexOf('/') + 1);
+        return PersonQuery.field(field, stripWildcard(value), isPrefixMatch(value));
+    }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+    private static SearchField getSearchField(String token) {
+        if (token.startsWith(PREFIX_NAME.getPrefix())) {
+            return SearchField.NAME;
+        } else if (token.startsWith(PREFIX_EMAIL.getPrefix())) {
+            return SearchField.EMAIL;
+        } else if (token.startsWith(PREFIX_NUSNETID.getPrefix())) {
+            return SearchField.NUSNETID;
+        } else if (token.startsWith(PREFIX_TELEGRAM.getPrefix())) {
+            return SearchField.TELEGRAM;
+        } else {
+            assert token.startsWith(PREFIX_SLOT.getPrefix());
+            return SearchField.SLOT;
+        }
+    }
+
+    /**
+     * Parses the {@code ASSIGNMENT_ID:STATUS} value of a homework clause.
+     */
+    private static PersonQuery parseHomework(String value) throws ParseException {
+        int separator = value.indexOf(HOMEWORK_SEPARATOR);
+        if (separator < 0) {
+            throw invalidFormat();
+        }
+        int assignmentId = ParserUtil.parseAssignmentId(value.substring(0, separator));
+        try {
+            HomeworkStatus status = HomeworkStatus.fromString(value.substring(separator + 1).toLowerCase(Locale.ROOT));
+            return PersonQuery.homework(assignmentId, status);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(HomeworkStatus.MESSAGE_CONSTRAINTS, e);
+        }
+    }
+
+    private static boolean isPrefixMatch(String value) {
+        return value.endsWith(WILDCARD);
+    }
+
+    private static String stripWildcard(String value) throws ParseException {
+        String stripped = isPrefixMatch(value) ? value.substring(0, value.length() - WILDCARD.length()) : value;
+        if (stripped.isEmpty()) {
+            throw invalidFormat();
+        }
+        return stripped;
+    }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    private static boolean isKeyword(String token) {
+        return !token.equals(OPERATOR_AND) && !token.equals(OPERATOR_OR) && !token.equals(OPERATOR_NOT)
+                && !token.equals(OPEN_PARENTHESIS) && !token.equals(CLOSE_PARENTHESIS) && !isFieldClause(token);
     }
 
+    private static boolean isFieldClause(String token) {
+        for (Prefix prefix : FIELD_PREFIXES) {
+            if (token.startsWith(prefix.getPrefix())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Parses a query from a list of tokens by recursive descent.
+     */
+    private static class QueryParser {
+        private final List<String> tokens;
+        private int position;
+
+        QueryParser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        /**
+         * Parses all the tokens as one query.
+         */
+        PersonQuery parseQuery() throws ParseException {
+            PersonQuery query = parseOr();
+            if (position < tokens.size()) {
+                throw invalidFormat();
+            }
+            return query;
+        }
+
+        private PersonQuery parseOr() throws ParseException {
+            List<PersonQuery> clauses = new ArrayList<>();
+            clauses.add(parseAnd());
+            while (consume(OPERATOR_OR)) {
+                clauses.add(parseAnd());
+            }
+            return clauses.size() == 1 ? clauses.get(0) : PersonQuery.or(clauses);
+        }
+
+        private PersonQuery parseAnd() throws ParseException {
+            List<PersonQuery> clauses = new ArrayList<>();
+            clauses.add(parseNot());
+            while (consume(OPERATOR_AND) || hasClause()) {
+                clauses.add(parseNot());
+            }
+            return clauses.size() == 1 ? clauses.get(0) : PersonQuery.and(clauses);
+        }
+
+        private PersonQuery parseNot() throws ParseException {
+            if (consume(OPERATOR_NOT)) {
+                return PersonQuery.not(parseNot());
+            }
+            if (consume(OPEN_PARENTHESIS)) {
+                PersonQuery query = parseOr();
+                if (!consume(CLOSE_PARENTHESIS)) {
+                    throw invalidFormat();
+                }
+                return query;
+            }
+            if (!hasClause()) {
+                throw invalidFormat();
+            }
+            if (isKeyword(peek())) {
+                return parseKeywords();
+            }
+            return parseField(tokens.get(position++));
+        }
+
+        /**
+         * Parses a run of plain keywords, which matches persons matching any of them.
+         */
+        private PersonQuery parseKeywords() {
+            List<String> keywords = new ArrayList<>();
+            while (position < tokens.size() && isKeyword(peek())) {
+                keywords.add(tokens.get(position++));
+            }
+            return PersonQuery.keywords(keywords);
+        }
+
+        /**
+         * Returns true if the next token starts a clause, rather than being an operator, a closing parenthesis or
+         * the end of the query.
+         */
+        private boolean hasClause() {
+            if (position >= tokens.size()) {
+                return false;
+            }
+            String token = peek();
+            return !token.equals(OPERATOR_AND) && !token.equals(OPERATOR_OR) && !token.equals(CLOSE_PARENTHESIS);
+        }
+
+        private String peek() {
+            return tokens.get(position);
+        }
+
+        private boolean consume(String token) {
+            if (position < tokens.size() && peek().equals(token)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+    }
 }
@@ -7,6 +7,7 @@ import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.MarkHomeworkCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.HomeworkTracker;
 
 /**
  * Parses input arguments and creates a new {@link MarkHomeworkCommand} object.
@@ -15,7 +16,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * <pre>{@code
  * i/<nusnetId> a/<assignmentId> status/<complete|incomplete|late>
  * }</pre>
- * Assignment IDs must be integers between 0 and 2, and the status must be one of
+ * Assignment IDs must be integers between 1 and {@link HomeworkTracker#MAX_ASSIGNMENTS}, and the status must be one of
  * "complete", "incomplete", or "late".
  * </p>
  *
@@ -45,15 +46,7 @@ public class MarkHomeworkCommandParser implements Parser<MarkHomeworkCommand> {
         }
 
         String nusnetId = matcher.group("nusnetId");
-        int assignmentId;
-        try {
-            assignmentId = Integer.parseInt(matcher.group("assignmentId"));
-            if (assignmentId < 1 || assignmentId > 3) {
-                throw new ParseException("Assignment id must be between 1 and 3.");
-            }
-        } catch (NumberFormatException e) {
-            throw new ParseException("Assignment id must be an integer between 1 and 3.");
-        }
+        int assignmentId = ParserUtil.parseAssignmentId(matcher.group("assignmentId"));
         String status = matcher.group("status").toLowerCase();
         if (!status.equals("complete") && !status.equals("incomplete") && !status.equals("late")) {
             throw new ParseException("Status must be one of: complete, incomplete, late.");
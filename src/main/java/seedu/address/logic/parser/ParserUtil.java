@@ -2,10 +2,15 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.HomeworkTracker;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Phone;
@@ -18,6 +23,9 @@ import seedu.address.model.person.Telegram;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_ASSIGNMENT_ID =
+            "Assignment id must be an integer between 1 and " + HomeworkTracker.MAX_ASSIGNMENTS + ".";
+    public static final String MESSAGE_INVALID_DUE_DATE = "Due dates should be in the format YYYY-MM-DD.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -119,6 +127,52 @@ public class ParserUtil {
         if (!Slot.isValidSlot(trimmedSlot)) {
             throw new ParseException(Slot.MESSAGE_CONSTRAINTS);
         }
-        return new Slot(trimmedSlot);
+        return Slot.of(trimmedSlot);
+    }
+
+    /**
+     * Parses {@code assignmentId} into an assignment ID and returns it. Leading and trailing whitespaces will be
+     * trimmed. The assignment need not be defined in the address book.
+     *
+     * @throws ParseException if the given {@code assignmentId} is not a valid assignment ID.
+     */
+    public static int parseAssignmentId(String assignmentId) throws ParseException {
+        requireNonNull(assignmentId);
+        String trimmedId = assignmentId.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedId)
+                || !HomeworkTracker.isValidAssignmentId(Integer.parseInt(trimmedId))) {
+            throw new ParseException(MESSAGE_INVALID_ASSIGNMENT_ID);
+        }
+        return Integer.parseInt(trimmedId);
+    }
+
+    /**
+     * Parses a {@code String title} into an assignment title.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code title} is invalid.
+     */
+    public static String parseAssignmentTitle(String title) throws ParseException {
+        requireNonNull(title);
+        String trimmedTitle = title.trim();
+        if (!Assignment.isValidTitle(trimmedTitle)) {
+            throw new ParseException(Assignment.MESSAGE_TITLE_CONSTRAINTS);
+        }
+        return trimmedTitle;
+    }
+
+    /**
+     * Parses a {@code String dueDate} in the format YYYY-MM-DD into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code dueDate} is not a valid date.
+     */
+    public static LocalDate parseDueDate(String dueDate) throws ParseException {
+        requireNonNull(dueDate);
+        try {
+            return LocalDate.parse(dueDate.trim());
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DUE_DATE);
+        }
     }
 }
@@ -2,21 +2,52 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.SearchResult;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Assignments are defined once here and shared by every person, who only track their status for each assignment.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    public static final String MESSAGE_DUPLICATE_ASSIGNMENT = "Assignment %d is defined more than once.";
+
     private final UniquePersonList persons;
 
+    /**
+     * The assignments, in ascending order of ID. The list is never modified but replaced on every change, so it can
+     * be shared with copies of this address book and a changed list is recognised by reference.
+     */
+    private List<Assignment> assignments = List.copyOf(Assignment.getDefaultAssignments());
+
+    /**
+     * Persons keyed by their upper-cased NUSNET ID, in the order they were indexed.
+     * NUSNET IDs are not part of a person's identity, so more than one person may share an ID.
+     */
+    private final Map<String, List<Person>> personsByNusnetid = new HashMap<>();
+
+    /** Incremented on every change to the data in this address book. */
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -46,6 +77,26 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        reindexNusnetids();
+        version++;
+    }
+
+    /**
+     * Replaces the assignments with {@code assignments}.
+     *
+     * @throws IllegalArgumentException if two of the assignments have the same ID.
+     */
+    public void setAssignments(List<Assignment> assignments) {
+        requireNonNull(assignments);
+        List<Assignment> sorted = new ArrayList<>(assignments);
+        sorted.sort(Comparator.comparingInt(Assignment::getId));
+        for (int i = 1; i < sorted.size(); i++) {
+            if (sorted.get(i - 1).getId() == sorted.get(i).getId()) {
+                throw new IllegalArgumentException(String.format(MESSAGE_DUPLICATE_ASSIGNMENT, sorted.get(i).getId()));
+            }
+        }
+        this.assignments = List.copyOf(sorted);
+        version++;
     }
 
     /**
@@ -55,6 +106,53 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(newData);
 
         setPersons(newData.getPersonList());
+        setAssignments(newData.getAssignmentList());
+    }
+
+    //// assignment-level operations
+
+    /**
+     * Returns true if an assignment with the given ID is defined in the address book.
+     */
+    public boolean hasAssignment(int assignmentId) {
+        return findAssignment(assignmentId) >= 0;
+    }
+
+    /**
+     * Defines {@code assignment} in the address book, replacing the assignment with the same ID if there is one.
+     */
+    public void setAssignment(Assignment assignment) {
+        requireNonNull(assignment);
+        List<Assignment> updated = new ArrayList<>(assignments);
+        int index = findAssignment(assignment.getId());
+        if (index >= 0) {
+            updated.set(index, assignment);
+        } else {
+            updated.add(-index - 1, assignment);
+        }
+        assignments = List.copyOf(updated);
+        version++;
+    }
+
+    /**
+     * Returns the index of the assignment with the given ID, or {@code -(insertion point) - 1} if there is none,
+     * as in {@link java.util.Collections#binarySearch(List, Object)}.
+     */
+    private int findAssignment(int assignmentId) {
+        int low = 0;
+        int high = assignments.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = assignments.get(mid).getId();
+            if (midId < assignmentId) {
+                low = mid + 1;
+            } else if (midId > assignmentId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
     }
 
     //// person-level operations
@@ -67,12 +165,42 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person whose NUSNET ID matches {@code nusnetid}, ignoring case.
+     * If several persons share the ID, the one that was added first is returned.
+     */
+    public Optional<Person> getPersonByNusnetid(String nusnetid) {
+        requireNonNull(nusnetid);
+        List<Person> matches = personsByNusnetid.get(toNusnetidKey(nusnetid));
+        return matches == null ? Optional.empty() : Optional.of(matches.get(0));
+    }
+
+    /**
+     * Searches the persons in the address book for {@code terms}.
+     *
+     * @see PersonSearchIndex#search(Collection)
+     */
+    public SearchResult searchPersons(Collection<String> terms) {
+        return persons.search(terms);
+    }
+
+    /**
+     * Looks up the persons in the address book whose {@code field} matches {@code value}.
+     *
+     * @see PersonSearchIndex#lookup(SearchField, String, boolean)
+     */
+    public SearchResult lookupPersons(SearchField field, String value, boolean isPrefix) {
+        return persons.lookup(field, value, isPrefix);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        indexNusnetid(p);
+        version++;
     }
 
     /**
@@ -84,6 +212,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        String targetKey = toNusnetidKey(target.getNusnetid().value);
+        if (targetKey.equals(toNusnetidKey(editedPerson.getNusnetid().value))) {
+            List<Person> matches = personsByNusnetid.get(targetKey);
+            matches.set(matches.indexOf(target), editedPerson);
+        } else {
+            unindexNusnetid(target);
+            indexNusnetid(editedPerson);
+        }
+        version++;
+    }
+
+    /**
+     * Replaces each person in {@code targets} with the result of applying {@code transform} to it, as a single change
+     * to the person list. Returns the number of persons that were modified.
+     * Every person in {@code targets} must exist in the address book, and the edited persons must remain unique.
+     */
+    public int updatePersons(List<Person> targets, UnaryOperator<Person> transform) {
+        int modifiedCount = persons.updatePersons(targets, transform);
+        if (modifiedCount > 0) {
+            reindexNusnetids();
+            version++;
+        }
+        return modifiedCount;
     }
 
     /**
@@ -92,6 +243,39 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        unindexNusnetid(key);
+        version++;
+    }
+
+    private void reindexNusnetids() {
+        personsByNusnetid.clear();
+        persons.forEach(this::indexNusnetid);
+    }
+
+    private void indexNusnetid(Person person) {
+        personsByNusnetid.computeIfAbsent(toNusnetidKey(person.getNusnetid().value), unused -> new ArrayList<>(1))
+                .add(person);
+    }
+
+    private void unindexNusnetid(Person person) {
+        String key = toNusnetidKey(person.getNusnetid().value);
+        List<Person> matches = personsByNusnetid.get(key);
+        matches.remove(person);
+        if (matches.isEmpty()) {
+            personsByNusnetid.remove(key);
+        }
+    }
+
+    private static String toNusnetidKey(String nusnetid) {
+        return nusnetid.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the version of the data in this address book.
+     * The version changes whenever the data changes, so equal versions mean the data has not changed in between.
+     */
+    public long getVersion() {
+        return version;
     }
 
     //// util methods
@@ -100,6 +284,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public String toString() {
         return new ToStringBuilder(this)
                 .add("persons", persons)
+                .add("assignments", assignments)
                 .toString();
     }
 
@@ -108,6 +293,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<Assignment> getAssignmentList() {
+        return assignments;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -120,11 +310,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         AddressBook otherAddressBook = (AddressBook) other;
-        return persons.equals(otherAddressBook.persons);
+        return persons.equals(otherAddressBook.persons)
+                && assignments.equals(otherAddressBook.assignments);
     }
 
     @Override
     public int hashCode() {
-        return persons.hashCode();
+        return Objects.hash(persons, assignments);
     }
 }
@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The file formats the address book data can be stored in.
+ */
+public enum AddressBookFileFormat {
+    /** Pretty-printed JSON, which is easy to read and edit by hand. */
+    JSON,
+    /** Compact binary, which is smaller and faster to load and save. */
+    BINARY
+}
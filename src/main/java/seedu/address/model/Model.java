@@ -1,11 +1,20 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.PersonQuery;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.SearchResult;
 
 /**
  * The API of the Model component.
@@ -52,11 +61,37 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the address book data.
+     * The version changes whenever the address book data changes, but not when only the filter changes.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person in the address book whose NUSNET ID matches {@code nusnetid}, ignoring case.
+     * The lookup is not affected by the filter on the filtered person list.
+     */
+    Optional<Person> getPersonByNusnetid(String nusnetid);
+
+    /**
+     * Returns the persons in the address book that match any of {@code terms} exactly, by prefix or with a small typo,
+     * in their name, NUSNET ID, email, Telegram handle or slot, each with the score it is ranked by.
+     * The search is not affected by the filter on the filtered person list.
+     */
+    SearchResult searchPersons(Collection<String> terms);
+
+    /**
+     * Returns the persons in the address book whose {@code field} has a word equal to {@code value}, or starting with
+     * {@code value} if {@code isPrefix} is true, ignoring case. The lookup is not affected by the filter on the
+     * filtered person list.
+     */
+    SearchResult lookupPersons(SearchField field, String value, boolean isPrefix);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -76,6 +111,24 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person in {@code targets} with the result of applying {@code transform} to it, as a single change
+     * to the person list, and returns the number of persons that were modified.
+     * Every person in {@code targets} must exist in the address book.
+     * The person identities of the edited persons must not clash with each other or with other existing persons.
+     */
+    int updatePersons(List<Person> targets, UnaryOperator<Person> transform);
+
+    /**
+     * Returns true if an assignment with the given ID is defined in the address book.
+     */
+    boolean hasAssignment(int assignmentId);
+
+    /**
+     * Defines {@code assignment} in the address book, replacing the assignment with the same ID if there is one.
+     */
+    void setAssignment(Assignment assignment);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -84,4 +137,19 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders the
+     * filtered persons by {@code comparator}. Persons that compare equal keep their order in the address book.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
+    /**
+     * Updates the filter of the filtered person list to the persons matching {@code query}, ordered from the best
+     * match to the worst if it contains keywords. The query is run again whenever the address book changes, until
+     * the filter is next updated.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredPersonList(PersonQuery query);
 }
@@ -4,14 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.CompiledQuery;
+import seedu.address.model.search.PersonQuery;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.SearchResult;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,6 +34,11 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
+
+    /** The query that filters the filtered person list, or null if it is filtered by a fixed predicate. */
+    private PersonQuery filterQuery;
+    private long filterQueryVersion;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -29,11 +46,12 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -80,6 +98,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        refreshFilterQuery();
     }
 
     @Override
@@ -87,15 +106,39 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> getPersonByNusnetid(String nusnetid) {
+        requireNonNull(nusnetid);
+        return addressBook.getPersonByNusnetid(nusnetid);
+    }
+
+    @Override
+    public SearchResult searchPersons(Collection<String> terms) {
+        requireNonNull(terms);
+        return addressBook.searchPersons(terms);
+    }
+
+    @Override
+    public SearchResult lookupPersons(SearchField field, String value, boolean isPrefix) {
+        requireAllNonNull(field, value);
+        return addressBook.lookupPersons(field, value, isPrefix);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        refreshFilterQuery();
     }
 
     @Override
@@ -109,6 +152,29 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        refreshFilterQuery();
+    }
+
+    @Override
+    public int updatePersons(List<Person> targets, UnaryOperator<Person> transform) {
+        requireAllNonNull(targets, transform);
+
+        // targets may be a live view of the person list, such as the filtered list, so it is copied first
+        int updatedCount = addressBook.updatePersons(new ArrayList<>(targets), transform);
+        refreshFilterQuery();
+        return updatedCount;
+    }
+
+    @Override
+    public boolean hasAssignment(int assignmentId) {
+        return addressBook.hasAssignment(assignmentId);
+    }
+
+    @Override
+    public void setAssignment(Assignment assignment) {
+        requireNonNull(assignment);
+        addressBook.setAssignment(assignment);
+        refreshFilterQuery();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -119,15 +185,49 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        filterQuery = null;
+        sortedPersons.setComparator(null);
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filterQuery = null;
+        filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(comparator);
+    }
+
+    @Override
+    public void updateFilteredPersonList(PersonQuery query) {
+        requireNonNull(query);
+        filterQuery = query;
+        applyFilterQuery();
+    }
+
+    /**
+     * Runs {@code filterQuery} again if the address book changed since it was last run, as its compiled predicate
+     * only matches the persons in the address book at the time.
+     */
+    private void refreshFilterQuery() {
+        if (filterQuery != null && filterQueryVersion != addressBook.getVersion()) {
+            applyFilterQuery();
+        }
+    }
+
+    private void applyFilterQuery() {
+        CompiledQuery compiledQuery = filterQuery.compile(this);
+        filterQueryVersion = addressBook.getVersion();
+        filteredPersons.setPredicate(compiledQuery.getPredicate());
+        sortedPersons.setComparator(compiledQuery.getRankComparator().orElse(null));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -142,7 +242,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && sortedPersons.equals(otherModelManager.sortedPersons);
     }
 
 }
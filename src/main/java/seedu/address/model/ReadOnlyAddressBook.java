@@ -1,6 +1,9 @@
 package seedu.address.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.Person;
 
 /**
@@ -14,4 +17,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an unmodifiable list of the assignments, in ascending order of ID.
+     * No two assignments have the same ID.
+     */
+    List<Assignment> getAssignmentList();
+
 }
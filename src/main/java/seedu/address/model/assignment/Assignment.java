@@ -0,0 +1,116 @@
+package seedu.address.model.assignment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.HomeworkTracker;
+
+/**
+ * Represents the definition of an assignment in the address book, shared by all students.
+ * Each student's {@link HomeworkTracker} only records their status for the assignment, keyed by its ID.
+ * Guarantees: immutable; ID and title are valid as declared in {@link #isValidId(int)} and
+ * {@link #isValidTitle(String)}
+ */
+public class Assignment {
+
+    public static final String MESSAGE_TITLE_CONSTRAINTS = "Assignment titles should not be blank";
+
+    /** The number of assignments an address book has until others are defined, as in earlier versions. */
+    public static final int DEFAULT_ASSIGNMENT_COUNT = 3;
+
+    private final int id;
+    private final String title;
+    private final LocalDate dueDate;
+
+    /**
+     * Constructs an {@code Assignment}.
+     *
+     * @param id A valid assignment ID.
+     * @param title A valid title.
+     * @param dueDate The due date, or null if the assignment has none.
+     */
+    public Assignment(int id, String title, LocalDate dueDate) {
+        requireNonNull(title);
+        checkArgument(isValidId(id), Homework.MESSAGE_INVALID_ID);
+        checkArgument(isValidTitle(title), MESSAGE_TITLE_CONSTRAINTS);
+        this.id = id;
+        this.title = title;
+        this.dueDate = dueDate;
+    }
+
+    /**
+     * Returns the assignments of an address book in which none have been defined.
+     */
+    public static List<Assignment> getDefaultAssignments() {
+        List<Assignment> assignments = new ArrayList<>(DEFAULT_ASSIGNMENT_COUNT);
+        for (int id = 1; id <= DEFAULT_ASSIGNMENT_COUNT; id++) {
+            assignments.add(new Assignment(id, "Assignment " + id, null));
+        }
+        return assignments;
+    }
+
+    /**
+     * Returns true if a given ID is a valid assignment ID.
+     */
+    public static boolean isValidId(int id) {
+        return HomeworkTracker.isValidAssignmentId(id);
+    }
+
+    /**
+     * Returns true if a given string is a valid title.
+     */
+    public static boolean isValidTitle(String test) {
+        return !test.isBlank();
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Optional<LocalDate> getDueDate() {
+        return Optional.ofNullable(dueDate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Assignment)) {
+            return false;
+        }
+
+        Assignment otherAssignment = (Assignment) other;
+        return id == otherAssignment.id
+                && title.equals(otherAssignment.title)
+                && Objects.equals(dueDate, otherAssignment.dueDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, title, dueDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("id", id)
+                .add("title", title)
+                .add("dueDate", dueDate)
+                .toString();
+    }
+}
@@ -10,38 +10,83 @@ import static java.util.Objects.requireNonNull;
  * </p>
  *
  * <p>Valid statuses are defined by {@link #STATUS_COMPLETE}, {@link #STATUS_INCOMPLETE}, and {@link #STATUS_LATE}.</p>
- * Assignment IDs are integers from 1 to 3.
+ * Assignment IDs are integers from 1 to {@link HomeworkTracker#MAX_ASSIGNMENTS}.
  */
 public class Homework {
     public static final String STATUS_COMPLETE = "complete";
     public static final String STATUS_INCOMPLETE = "incomplete";
     public static final String STATUS_LATE = "late";
 
+    public static final String MESSAGE_INVALID_ID =
+            "Assignment ID must be between 1 and " + HomeworkTracker.MAX_ASSIGNMENTS + ".";
+
+    /*
+     * There are only MAX_ASSIGNMENTS x 3 distinct homework values, so every tracker can share them.
+     * CANONICAL[id - 1][status.ordinal()] is the homework with the given id and status.
+     */
+    private static final Homework[][] CANONICAL =
+            new Homework[HomeworkTracker.MAX_ASSIGNMENTS][HomeworkStatus.values().length];
+
+    static {
+        for (int id = 1; id <= CANONICAL.length; id++) {
+            for (HomeworkStatus status : HomeworkStatus.values()) {
+                CANONICAL[id - 1][status.ordinal()] = new Homework(id, status);
+            }
+        }
+    }
+
     private final int id;
-    private final String status;
+    private final HomeworkStatus status;
 
     /**
      * Constructs a {@code Homework} object with the specified ID and status.
      *
-     * @param id the assignment ID (1 to 3)
+     * @param id the assignment ID (1 to {@link HomeworkTracker#MAX_ASSIGNMENTS})
      * @param status the homework status ("complete", "incomplete", or "late")
      * @throws NullPointerException if {@code status} is null
-     * @throws IllegalArgumentException if {@code id} is not between 1 and 3,
-     *                                  or {@code status} is invalid
+     * @throws IllegalArgumentException if {@code id} is out of range, or {@code status} is invalid
      */
     public Homework(int id, String status) {
-        requireNonNull(status);
-        // homework id is form 1 to 3 (assume only 3 homeworks)
-        if (id < 1 || id > 3) {
-            throw new IllegalArgumentException("Assignment ID must be between 1 and 3.");
-        }
-        if (!isValidStatus(status)) {
-            throw new IllegalArgumentException("Please enter complete/incomplete/late only.");
-        }
+        this(id, HomeworkStatus.fromString(status));
+    }
+
+    private Homework(int id, HomeworkStatus status) {
+        checkId(id);
         this.id = id;
         this.status = status;
     }
 
+    /**
+     * Returns the {@code Homework} with the specified ID and status.
+     * Equal homework values are the same instance, so prefer this to the constructor.
+     *
+     * @param id the assignment ID (1 to {@link HomeworkTracker#MAX_ASSIGNMENTS})
+     * @param status the homework status ("complete", "incomplete", or "late")
+     * @throws NullPointerException if {@code status} is null
+     * @throws IllegalArgumentException if {@code id} is out of range, or {@code status} is invalid
+     */
+    public static Homework of(int id, String status) {
+        return of(id, HomeworkStatus.fromString(status));
+    }
+
+    /**
+     * Returns the {@code Homework} with the specified ID and status.
+     *
+     * @throws NullPointerException if {@code status} is null
+     * @throws IllegalArgumentException if {@code id} is out of range
+     */
+    public static Homework of(int id, HomeworkStatus status) {
+        requireNonNull(status);
+        checkId(id);
+        return CANONICAL[id - 1][status.ordinal()];
+    }
+
+    private static void checkId(int id) {
+        if (!HomeworkTracker.isValidAssignmentId(id)) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_ID);
+        }
+    }
+
     public int getId() {
         return id;
     }
@@ -52,6 +97,10 @@ public class Homework {
      * @return the homework status: complete, incomplete, late
      */
     public String getStatus() {
+        return status.toString();
+    }
+
+    public HomeworkStatus getHomeworkStatus() {
         return status;
     }
 
@@ -62,7 +111,7 @@ public class Homework {
      * @return a new {@code Homework} instance with updated status
      */
     public Homework withStatus(String newStatus) {
-        return new Homework(this.id, newStatus);
+        return of(this.id, newStatus);
     }
 
     /**
@@ -91,11 +140,11 @@ public class Homework {
             return false;
         }
         Homework o = (Homework) other;
-        return id == o.id && status.equals(o.status);
+        return id == o.id && status == o.status;
     }
 
     @Override
     public int hashCode() {
-        return id * 31 + status.hashCode();
+        return id * 31 + status.toString().hashCode();
     }
 }
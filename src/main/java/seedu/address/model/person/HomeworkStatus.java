@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents the completion status of a {@link Homework}.
+ * The binary storage format stores statuses by their ordinal, so new statuses must be added at the end.
+ */
+public enum HomeworkStatus {
+    COMPLETE(Homework.STATUS_COMPLETE),
+    INCOMPLETE(Homework.STATUS_INCOMPLETE),
+    LATE(Homework.STATUS_LATE);
+
+    public static final String MESSAGE_CONSTRAINTS = "Please enter complete/incomplete/late only.";
+
+    private static final HomeworkStatus[] VALUES = values();
+
+    private final String value;
+
+    HomeworkStatus(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the status with the given value, e.g. {@code COMPLETE} for "complete".
+     *
+     * @throws NullPointerException if {@code value} is null
+     * @throws IllegalArgumentException if {@code value} is not the value of any status
+     */
+    public static HomeworkStatus fromString(String value) {
+        requireNonNull(value);
+        for (HomeworkStatus status : VALUES) {
+            if (status.value.equals(value)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns the status with the given ordinal.
+     *
+     * @throws IllegalArgumentException if there is no status with that ordinal
+     */
+    public static HomeworkStatus fromOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= VALUES.length) {
+            throw new IllegalArgumentException("Homework status does not exist: " + ordinal);
+        }
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Returns the value of this status as used in commands and the data file, e.g. "complete".
+     */
+    @Override
+    public String toString() {
+        return value;
+    }
+}
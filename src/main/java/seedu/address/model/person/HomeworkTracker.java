@@ -1,9 +1,13 @@
 package seedu.address.model.person;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Represents a homework tracker for a single person.
@@ -24,43 +28,76 @@ import java.util.Objects;
  */
 public class HomeworkTracker {
 
-    /** The maximum number of assignments a person can have (IDs range from 1 to MAX_ASSIGNMENTS). */
-    public static final int MAX_ASSIGNMENTS = 3; // 1..3
+    /**
+     * The maximum number of assignments a person can have (IDs range from 1 to MAX_ASSIGNMENTS).
+     * Which of these assignments exist is defined by the address book.
+     */
+    public static final int MAX_ASSIGNMENTS = 255;
+
+    private static final byte NOT_ADDED = 0;
+    private static final byte[] NO_STATUSES = new byte[0];
+
+    /**
+     * The status of each assignment, indexed by assignment ID: {@link #NOT_ADDED} if the assignment has not been
+     * added, otherwise the ordinal of its {@link HomeworkStatus} plus one. The array is never modified, and is only
+     * as long as needed to hold the highest added ID, so equal trackers have equal arrays.
+     */
+    private final byte[] statuses;
 
-    /** Internal map storing assignment IDs and their corresponding statuses. */
-    private final Map<Integer, Homework> statuses;
+    /** The number of added assignments. */
+    private final int count;
 
     /**
      * Constructs an empty {@code HomeworkTracker} with no recorded homework statuses.
      */
     public HomeworkTracker() {
-        this.statuses = new HashMap<>();
+        this(NO_STATUSES, 0);
     }
 
     /**
      * Constructs a {@code HomeworkTracker} with the given map of assignment statuses.
      * <p>
-     * The map is defensively copied to preserve immutability.
+     * The map is copied to preserve immutability. Each homework is recorded under its own ID.
      * </p>
      *
      * @param statuses a map of assignment IDs to their statuses
      * @throws NullPointerException if {@code statuses} is {@code null}
      */
     public HomeworkTracker(Map<Integer, Homework> statuses) {
-        this.statuses = new HashMap<>(Objects.requireNonNull(statuses));
+        Objects.requireNonNull(statuses);
+        int length = 0;
+        for (Homework hw : statuses.values()) {
+            length = Math.max(length, hw.getId() + 1);
+        }
+
+        byte[] copy = new byte[length];
+        int count = 0;
+        for (Homework hw : statuses.values()) {
+            if (copy[hw.getId()] == NOT_ADDED) {
+                count++;
+            }
+            copy[hw.getId()] = toCode(hw.getHomeworkStatus());
+        }
+        this.statuses = copy;
+        this.count = count;
+    }
+
+    private HomeworkTracker(byte[] statuses, int count) {
+        this.statuses = statuses;
+        this.count = count;
     }
 
     /** Add a new homework with status incomplete by default. */
     public HomeworkTracker addHomework(int assignmentId) {
-        if (assignmentId < 0 || assignmentId > MAX_ASSIGNMENTS) {
-            throw new IllegalArgumentException("Assignment ID must be between 1 and 3.");
+        if (!isValidAssignmentId(assignmentId)) {
+            throw new IllegalArgumentException(Homework.MESSAGE_INVALID_ID);
         }
-        if (statuses.containsKey(assignmentId)) {
+        if (hasAssignment(assignmentId)) {
             return this; // already exists
         }
-        Map<Integer, Homework> updated = new HashMap<>(statuses);
-        updated.put(assignmentId, new Homework(assignmentId, Homework.STATUS_INCOMPLETE));
-        return new HomeworkTracker(updated);
+        byte[] updated = Arrays.copyOf(statuses, Math.max(statuses.length, assignmentId + 1));
+        updated[assignmentId] = toCode(HomeworkStatus.INCOMPLETE);
+        return new HomeworkTracker(updated, count + 1);
     }
 
     /**
@@ -78,13 +115,13 @@ public class HomeworkTracker {
         if (!isValidStatus(status)) {
             throw new IllegalArgumentException("Please enter complete/incomplete/late only");
         }
-        HashMap<Integer, Homework> copy = new HashMap<>(statuses);
-        Homework existing = copy.get(assignmentId);
-        if (existing == null) {
+        HomeworkStatus newStatus = HomeworkStatus.fromString(status);
+        if (!hasAssignment(assignmentId)) {
             throw new IllegalArgumentException("Assignment not found. Add it first using 'addhw'.");
         }
-        copy.put(assignmentId, existing.withStatus(status));
-        return new HomeworkTracker(copy);
+        byte[] copy = statuses.clone();
+        copy[assignmentId] = toCode(newStatus);
+        return new HomeworkTracker(copy, count);
     }
 
     /**
@@ -94,17 +131,16 @@ public class HomeworkTracker {
      * @return the homework status if recorded, or {@code "not marked"} if none exists
      */
     public String getStatus(int assignmentId) {
-        Homework hw = statuses.get(assignmentId);
-        return hw == null ? "not marked" : hw.getStatus();
+        return hasAssignment(assignmentId) ? toStatus(statuses[assignmentId]).toString() : "not marked";
     }
 
     /**
-     * Returns an unmodifiable view of the internal assignment-status map.
+     * Returns an unmodifiable view of the assignment-status map, in ascending order of assignment ID.
      *
      * @return an unmodifiable map of assignment IDs to statuses
      */
     public Map<Integer, Homework> asMap() {
-        return Collections.unmodifiableMap(statuses);
+        return new HomeworkMapView();
     }
 
     /**
@@ -137,7 +173,26 @@ public class HomeworkTracker {
     }
 
     public boolean hasAssignment(int assignmentId) {
-        return statuses.containsKey(assignmentId);
+        return assignmentId >= 0 && assignmentId < statuses.length && statuses[assignmentId] != NOT_ADDED;
+    }
+
+    /**
+     * Returns {@code true} if the given assignment has been added with the given status.
+     *
+     * @param assignmentId the assignment ID to check
+     * @param status the status to compare with
+     * @return {@code true} if the assignment has {@code status}, {@code false} otherwise
+     */
+    public boolean hasStatus(int assignmentId, HomeworkStatus status) {
+        return hasAssignment(assignmentId) && statuses[assignmentId] == toCode(status);
+    }
+
+    private static byte toCode(HomeworkStatus status) {
+        return (byte) (status.ordinal() + 1);
+    }
+
+    private static HomeworkStatus toStatus(byte code) {
+        return HomeworkStatus.fromOrdinal(code - 1);
     }
 
 
@@ -150,12 +205,12 @@ public class HomeworkTracker {
      */
     @Override
     public String toString() {
-        return statuses.toString();
+        return asMap().toString();
     }
 
     /**
      * Returns {@code true} if this tracker is equal to the specified object.
-     * Two trackers are equal if their internal status maps are identical.
+     * Two trackers are equal if they have the same assignments with the same statuses.
      *
      * @param o the object to compare with
      * @return {@code true} if both trackers have the same statuses, {@code false} otherwise
@@ -169,16 +224,83 @@ public class HomeworkTracker {
             return false;
         }
         HomeworkTracker other = (HomeworkTracker) o;
-        return statuses.equals(other.statuses);
+        return Arrays.equals(statuses, other.statuses);
     }
 
     /**
-     * Returns the hash code of this tracker based on its status map.
+     * Returns the hash code of this tracker based on its statuses.
      *
      * @return the hash code value
      */
     @Override
     public int hashCode() {
-        return statuses.hashCode();
+        return Arrays.hashCode(statuses);
+    }
+
+    /**
+     * An unmodifiable map view of the statuses. Lookups go straight to the status array, and the homework values
+     * are the shared instances from {@link Homework#of(int, HomeworkStatus)}.
+     */
+    private class HomeworkMapView extends AbstractMap<Integer, Homework> {
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Integer && hasAssignment((Integer) key);
+        }
+
+        @Override
+        public Homework get(Object key) {
+            if (!containsKey(key)) {
+                return null;
+            }
+            int id = (Integer) key;
+            return Homework.of(id, toStatus(statuses[id]));
+        }
+
+        @Override
+        public Set<Entry<Integer, Homework>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return count;
+                }
+
+                @Override
+                public Iterator<Entry<Integer, Homework>> iterator() {
+                    return new Iterator<>() {
+                        private int nextId = findAssignment(0);
+
+                        @Override
+                        public boolean hasNext() {
+                            return nextId < statuses.length;
+                        }
+
+                        @Override
+                        public Entry<Integer, Homework> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int id = nextId;
+                            nextId = findAssignment(id + 1);
+                            return new SimpleImmutableEntry<>(id, Homework.of(id, toStatus(statuses[id])));
+                        }
+                    };
+                }
+            };
+        }
+
+        /** Returns the lowest added assignment ID from {@code fromId} onwards, or the array length if none. */
+        private int findAssignment(int fromId) {
+            int id = fromId;
+            while (id < statuses.length && statuses[id] == NOT_ADDED) {
+                id++;
+            }
+            return id;
+        }
     }
 }
@@ -3,6 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -17,9 +23,13 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
+    /** Case-folded words of {@code fullName}, computed when first needed. */
+    private List<String> foldedWords;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -35,9 +45,28 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
+    /**
+     * Returns the words of this name, case-folded with {@link StringUtil#foldCase(String)}.
+     * The words are computed once and cached, so that matching names against keywords does not allocate.
+     */
+    public List<String> getFoldedWords() {
+        List<String> words = foldedWords;
+        if (words == null) {
+            List<String> foldedWordList = new ArrayList<>();
+            for (String word : fullName.split(" ")) {
+                if (!word.isEmpty()) {
+                    foldedWordList.add(StringUtil.foldCase(word));
+                }
+            }
+            // Racing threads compute equal lists, so publishing either one is harmless
+            words = List.copyOf(foldedWordList);
+            foldedWords = words;
+        }
+        return words;
+    }
 
     @Override
     public String toString() {
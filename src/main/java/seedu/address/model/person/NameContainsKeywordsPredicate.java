@@ -1,6 +1,10 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -8,18 +12,66 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword matches a name if it equals one of the words of the name, ignoring case, as by
+ * {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ * <p>
+ * The {@code find} command does not evaluate this predicate: it only takes the keywords, and answers the query from
+ * the search index of the address book, whose name tokens come from {@link Name#getFoldedWords()}. The predicate is
+ * kept to carry the keywords and for callers that filter persons by name directly.
+ * </p>
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
 
+    /**
+     * The keywords trimmed and case-folded, to be compared with {@link Name#getFoldedWords()}, or null if a keyword
+     * is blank or not a single word.
+     */
+    private final Set<String> foldedKeywords;
+
+    /**
+     * Creates a predicate matching names containing any of {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
         this.keywords = keywords;
+        this.foldedKeywords = foldKeywords(keywords);
+    }
+
+    private static Set<String> foldKeywords(List<String> keywords) {
+        Set<String> foldedKeywords = new HashSet<>();
+        for (String keyword : keywords) {
+            String trimmedKeyword = keyword.trim();
+            if (trimmedKeyword.isEmpty() || trimmedKeyword.split("\\s+").length != 1) {
+                return null;
+            }
+            foldedKeywords.add(StringUtil.foldCase(trimmedKeyword));
+        }
+        return foldedKeywords;
+    }
+
+    /**
+     * Returns the keywords that names are matched against.
+     */
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        if (foldedKeywords == null) {
+            // Invalid keywords are reported by containsWordIgnoreCase when a person is tested
+            return keywords.stream()
+                    .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        }
+
+        List<String> words = person.getName().getFoldedWords();
+        for (int i = 0; i < words.size(); i++) {
+            if (foldedKeywords.contains(words.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's NUSnetid in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidNusnetid(String)}
@@ -15,7 +17,7 @@ public class Nusnetid {
     /*
      * The first character of the NUSnetid must be a E and follow by 7 numbers.
      */
-    private static final String VALIDATION_REGEX = "E\\d{7}";
+    public static final String VALIDATION_REGEX = "E\\d{7}";
 
     public final String value;
 
@@ -34,7 +36,8 @@ public class Nusnetid {
      * Returns true if a given string is a valid NUSNETID.
      */
     public static boolean isValidNusnetid(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // same as matching VALIDATION_REGEX, without the cost of a regex
+        return ValidationUtil.isPrefixedDigits(test, "E", 7, 7);
     }
 
     @Override
@@ -75,6 +75,7 @@ public class Person {
      * <p>
      * The new homework is added with the specified assignment ID. The original {@code Person} object
      * remains unchanged because {@link HomeworkTracker} follows an immutable design.
+     * If the assignment already exists, this {@code Person} is returned as is.
      * </p>
      *
      * @param assignmentId the ID of the assignment to add (usually 1–3)
@@ -82,6 +83,9 @@ public class Person {
      */
     public Person withAddedHomework(int assignmentId) {
         HomeworkTracker updated = homeworkTracker.addHomework(assignmentId);
+        if (updated == homeworkTracker) {
+            return this;
+        }
         return new Person(name, phone, email, nusnetid, telegram, slot, updated);
     }
 
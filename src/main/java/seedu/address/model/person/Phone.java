@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidSlot(String)}
@@ -30,7 +32,8 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidSlot(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // same as matching VALIDATION_REGEX, without the cost of a regex
+        return ValidationUtil.isDigits(test, 3);
     }
 
     @Override
@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's slot number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidSlot(String)}
@@ -14,6 +19,13 @@ public class Slot {
             "Slot numbers should only be T and numbers, and it should be at least 1 digits long";
     public static final String VALIDATION_REGEX = "T\\d{1,}";
 
+    /*
+     * A cohort only has a few dozen tutorial slots, so every person in the same slot can share one instance.
+     * The cap keeps unusual input from growing the cache without bound; slots beyond it are simply not shared.
+     */
+    static final int MAX_CANONICAL_SLOTS = 1024;
+    private static final Map<String, Slot> CANONICAL_SLOTS = new ConcurrentHashMap<>();
+
     public final String value;
 
     /**
@@ -27,11 +39,33 @@ public class Slot {
         value = slot;
     }
 
+    /**
+     * Returns the {@code Slot} for the given slot number, reusing the instance created for an equal slot number
+     * earlier where possible. Prefer this to the constructor when creating many slots, e.g. while loading data.
+     *
+     * @param slot A valid slot number.
+     */
+    public static Slot of(String slot) {
+        requireNonNull(slot);
+        Slot canonical = CANONICAL_SLOTS.get(slot);
+        if (canonical != null) {
+            return canonical;
+        }
+
+        Slot created = new Slot(slot);
+        if (CANONICAL_SLOTS.size() >= MAX_CANONICAL_SLOTS) {
+            return created;
+        }
+        canonical = CANONICAL_SLOTS.putIfAbsent(slot, created);
+        return canonical == null ? created : canonical;
+    }
+
     /**
      * Returns true if a given string is a valid slot number.
      */
     public static boolean isValidSlot(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // same as matching VALIDATION_REGEX, without the cost of a regex
+        return ValidationUtil.isPrefixedDigits(test, "T", 1, Integer.MAX_VALUE);
     }
 
     @Override
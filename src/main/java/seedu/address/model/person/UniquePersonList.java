@@ -3,13 +3,22 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.SearchResult;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +27,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since {@code Person#isSamePerson(Person)} compares names, the list also keeps a name-keyed index of every person's
+ * position so that identity lookups do not need to scan the whole list, and a {@link PersonSearchIndex} of the
+ * searchable fields of every person so that searches do not need to re-tokenize every person. The search index is
+ * only built on the first search, so copies of the list that are never searched do not pay for it.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,12 +42,21 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Position of each person in {@code internalList}, keyed by the name that identifies the person. */
+    private final Map<Name, Integer> nameIndex = new HashMap<>();
+
+    /**
+     * Persons in {@code internalList}, keyed by the tokens of their searchable fields, or null if the list has not
+     * been searched since its contents were last replaced.
+     */
+    private PersonSearchIndex searchIndex;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,6 +68,10 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        nameIndex.put(toAdd.getName(), internalList.size());
+        if (searchIndex != null) {
+            searchIndex.add(toAdd);
+        }
         internalList.add(toAdd);
     }
 
@@ -56,7 +83,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,23 +92,83 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        nameIndex.remove(target.getName());
+        nameIndex.put(editedPerson.getName(), index);
+        if (searchIndex != null) {
+            searchIndex.replace(internalList.get(index), editedPerson);
+        }
         internalList.set(index, editedPerson);
     }
 
+    /**
+     * Replaces each person in {@code targets} with the result of applying {@code transform} to it, and returns the
+     * number of persons that were modified. Persons for which {@code transform} returns the same instance are left
+     * untouched. All replacements are applied together, so observers of the list see a single change.
+     * Every person in {@code targets} must exist in the list, and the edited persons must remain unique.
+     */
+    public int updatePersons(List<Person> targets, UnaryOperator<Person> transform) {
+        requireAllNonNull(targets, transform);
+        requireAllNonNull(targets);
+
+        List<Person> updatedList = new ArrayList<>(internalList);
+        int modifiedCount = 0;
+        boolean isIdentityChanged = false;
+        for (Person target : targets) {
+            int index = indexOf(target);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+
+            Person current = updatedList.get(index);
+            Person editedPerson = requireNonNull(transform.apply(current));
+            if (editedPerson != current) {
+                updatedList.set(index, editedPerson);
+                isIdentityChanged |= !current.isSamePerson(editedPerson);
+                modifiedCount++;
+            }
+        }
+
+        if (modifiedCount == 0) {
+            return 0;
+        }
+        if (isIdentityChanged) {
+            setPersons(updatedList);
+        } else {
+            for (int i = 0; searchIndex != null && i < updatedList.size(); i++) {
+                if (updatedList.get(i) != internalList.get(i)) {
+                    searchIndex.replace(internalList.get(i), updatedList.get(i));
+                }
+            }
+            internalList.setAll(updatedList);
+        }
+        return modifiedCount;
+    }
+
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = internalList.remove(index);
+        if (searchIndex != null) {
+            searchIndex.remove(removed);
+        }
+        nameIndex.remove(toRemove.getName());
+        reindexFrom(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        searchIndex = null;
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
     }
 
     /**
@@ -90,11 +177,47 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<List<Person>> duplicatePersons = findDuplicatePersons(persons);
+        if (!duplicatePersons.isEmpty()) {
+            throw new DuplicatePersonException(duplicatePersons);
         }
 
+        searchIndex = null;
         internalList.setAll(persons);
+        nameIndex.clear();
+        reindexFrom(0);
+    }
+
+    /**
+     * Searches the persons in the list for {@code terms}.
+     *
+     * @see PersonSearchIndex#search(Collection)
+     */
+    public SearchResult search(Collection<String> terms) {
+        requireAllNonNull(terms);
+        return getSearchIndex().search(terms);
+    }
+
+    /**
+     * Looks up the persons in the list whose {@code field} matches {@code value}.
+     *
+     * @see PersonSearchIndex#lookup(SearchField, String, boolean)
+     */
+    public SearchResult lookup(SearchField field, String value, boolean isPrefix) {
+        requireAllNonNull(field, value);
+        return getSearchIndex().lookup(field, value, isPrefix);
+    }
+
+    /**
+     * Returns the search index of the persons in the list, building it if the list has not been searched since its
+     * contents were last replaced.
+     */
+    private PersonSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new PersonSearchIndex();
+            searchIndex.setAll(internalList);
+        }
+        return searchIndex;
     }
 
     /**
@@ -135,16 +258,47 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is no such person.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private int indexOf(Person person) {
+        Integer index = nameIndex.get(person.getName());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Records the positions of all persons from {@code start} to the end of the list in the name index.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            nameIndex.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Returns every group of persons in {@code persons} that have the same identity, in the order the duplicates are
+     * found. Returns an empty list if {@code persons} contains only unique persons.
+     * The persons are grouped by name in a single pass, as that is the field {@code Person#isSamePerson(Person)}
+     * compares.
+     */
+    public static List<List<Person>> findDuplicatePersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<Name, Person> firstPersonByName = new HashMap<>();
+        Map<Name, List<Person>> duplicateGroups = new LinkedHashMap<>();
+        for (Person person : persons) {
+            Person firstPerson = firstPersonByName.putIfAbsent(person.getName(), person);
+            if (firstPerson != null) {
+                duplicateGroups.computeIfAbsent(person.getName(), unused -> newGroup(firstPerson)).add(person);
             }
         }
-        return true;
+        return new ArrayList<>(duplicateGroups.values());
+    }
+
+    private static List<Person> newGroup(Person firstPerson) {
+        List<Person> group = new ArrayList<>();
+        group.add(firstPerson);
+        return group;
     }
 }
@@ -1,11 +1,37 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<List<Person>> duplicateGroups;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicateGroups = Collections.emptyList();
+    }
+
+    /**
+     * Creates a {@code DuplicatePersonException} that reports every group of persons sharing the same identity.
+     */
+    public DuplicatePersonException(List<List<Person>> duplicateGroups) {
+        super("Operation would result in duplicate persons: " + duplicateGroups.stream()
+                .map(group -> group.get(0).getName() + " (x" + group.size() + ")")
+                .collect(Collectors.joining(", ")));
+        this.duplicateGroups = Collections.unmodifiableList(duplicateGroups);
+    }
+
+    /**
+     * Returns the groups of persons that share the same identity, or an empty list if they were not recorded.
+     */
+    public List<List<Person>> getDuplicateGroups() {
+        return duplicateGroups;
     }
 }
@@ -0,0 +1,81 @@
+package seedu.address.model.search;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@link PersonQuery} compiled against an address book: the predicate that accepts the matching persons, together
+ * with the estimates used to order the clauses of enclosing queries, and the scores of any keyword searches in it.
+ */
+public class CompiledQuery {
+
+    /** Cost of testing a person against a clause answered from the search index, i.e. a single hash lookup. */
+    static final double INDEX_LOOKUP_COST = 1;
+
+    /** Cost of testing a person against a clause that reads the person's fields. */
+    static final double FIELD_SCAN_COST = 2;
+
+    /** Assumed fraction of persons accepted by a clause that is not answered from the search index. */
+    static final double DEFAULT_SELECTIVITY = 0.5;
+
+    static final CompiledQuery NONE = new CompiledQuery(unused -> false, 0, 0, null);
+    static final CompiledQuery ALL = new CompiledQuery(unused -> true, 1, 0, null);
+
+    private final Predicate<Person> predicate;
+    private final double selectivity;
+    private final double cost;
+    private final ToDoubleFunction<Person> scorer;
+
+    /**
+     * Creates a compiled query.
+     *
+     * @param predicate   Accepts the persons matching the query.
+     * @param selectivity Estimated fraction of persons accepted by {@code predicate}.
+     * @param cost        Estimated cost of testing a person with {@code predicate}.
+     * @param scorer      Scores of keyword searches in the query, or null if it has none.
+     */
+    CompiledQuery(Predicate<Person> predicate, double selectivity, double cost, ToDoubleFunction<Person> scorer) {
+        this.predicate = predicate;
+        this.selectivity = selectivity;
+        this.cost = cost;
+        this.scorer = scorer;
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns a comparator that orders persons from the highest keyword search score to the lowest, if the query
+     * contains a keyword search that is not negated.
+     */
+    public Optional<Comparator<Person>> getRankComparator() {
+        return scorer == null
+                ? Optional.empty()
+                : Optional.of(Comparator.comparingDouble(scorer).reversed());
+    }
+
+    double getSelectivity() {
+        return selectivity;
+    }
+
+    double getCost() {
+        return cost;
+    }
+
+    ToDoubleFunction<Person> getScorer() {
+        return scorer;
+    }
+
+    boolean isNone() {
+        return this == NONE;
+    }
+
+    boolean isAll() {
+        return this == ALL;
+    }
+}
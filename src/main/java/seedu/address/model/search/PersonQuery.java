@@ -0,0 +1,453 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.person.Person;
+
+/**
+ * A query over the persons in the address book, as written in a {@code find} command.
+ * A query is compiled against a {@link Model} into a single predicate. Clauses on indexed fields are answered from
+ * the search index up front, so testing a person against them is one hash lookup, and the clauses of every AND and OR
+ * are reordered so that the ones most likely to decide the outcome for the least cost are tested first.
+ */
+public abstract class PersonQuery {
+
+    /** Lower bound on the probabilities used to order clauses, so that certain outcomes do not divide by zero. */
+    private static final double MIN_PROBABILITY = 1e-9;
+
+    /**
+     * Returns a query matching persons found by a ranked search for any of {@code keywords}.
+     *
+     * @see PersonSearchIndex#search(java.util.Collection)
+     */
+    public static PersonQuery keywords(List<String> keywords) {
+        return new KeywordsQuery(keywords);
+    }
+
+    /**
+     * Returns a query matching persons whose {@code field} has a word equal to {@code value}, or starting with
+     * {@code value} if {@code isPrefix} is true, ignoring case.
+     */
+    public static PersonQuery field(SearchField field, String value, boolean isPrefix) {
+        return new FieldQuery(field, value, isPrefix);
+    }
+
+    /**
+     * Returns a query matching persons whose phone number equals {@code value}, or starts with {@code value} if
+     * {@code isPrefix} is true.
+     */
+    public static PersonQuery phone(String value, boolean isPrefix) {
+        return new PhoneQuery(value, isPrefix);
+    }
+
+    /**
+     * Returns a query matching persons who have been given assignment {@code assignmentId} with {@code status}.
+     */
+    public static PersonQuery homework(int assignmentId, HomeworkStatus status) {
+        return new HomeworkQuery(assignmentId, status);
+    }
+
+    /**
+     * Returns a query matching persons matched by every one of {@code clauses}.
+     */
+    public static PersonQuery and(List<PersonQuery> clauses) {
+        return new AndQuery(clauses);
+    }
+
+    /**
+     * Returns a query matching persons matched by any of {@code clauses}.
+     */
+    public static PersonQuery or(List<PersonQuery> clauses) {
+        return new OrQuery(clauses);
+    }
+
+    /**
+     * Returns a query matching persons not matched by {@code clause}.
+     */
+    public static PersonQuery not(PersonQuery clause) {
+        return new NotQuery(clause);
+    }
+
+    /**
+     * Compiles this query against the current contents of {@code model}'s address book.
+     * The compiled predicate reflects the address book at the time of compilation; persons added later, or whose
+     * searchable fields are edited later, are not matched by clauses on indexed fields.
+     */
+    public abstract CompiledQuery compile(Model model);
+
+    private static double getSelectivity(SearchResult result, Model model) {
+        return (double) result.size() / Math.max(1, model.getAddressBook().getPersonList().size());
+    }
+
+    /**
+     * Returns a compiled query accepting the persons in {@code result}, whose scores are used for ranking if
+     * {@code isRanked} is true.
+     */
+    private static CompiledQuery compileResult(SearchResult result, Model model, boolean isRanked) {
+        if (result.size() == 0) {
+            return CompiledQuery.NONE;
+        }
+        return new CompiledQuery(result, getSelectivity(result, model), CompiledQuery.INDEX_LOOKUP_COST,
+                isRanked ? result::getScore : null);
+    }
+
+    /**
+     * Returns a scorer that adds up the scores of the clauses that have them, or null if none do.
+     */
+    private static ToDoubleFunction<Person> sumScorers(List<CompiledQuery> clauses) {
+        List<ToDoubleFunction<Person>> scorers = new ArrayList<>();
+        for (CompiledQuery clause : clauses) {
+            if (clause.getScorer() != null) {
+                scorers.add(clause.getScorer());
+            }
+        }
+        if (scorers.isEmpty()) {
+            return null;
+        }
+        if (scorers.size() == 1) {
+            return scorers.get(0);
+        }
+        return person -> {
+            double score = 0;
+            for (ToDoubleFunction<Person> scorer : scorers) {
+                score += scorer.applyAsDouble(person);
+            }
+            return score;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<Person>[] toPredicates(List<CompiledQuery> clauses) {
+        return clauses.stream().map(CompiledQuery::getPredicate).toArray(Predicate[]::new);
+    }
+
+    private static class KeywordsQuery extends PersonQuery {
+        private final List<String> keywords;
+
+        KeywordsQuery(List<String> keywords) {
+            requireAllNonNull(keywords);
+            this.keywords = List.copyOf(keywords);
+        }
+
+        @Override
+        public CompiledQuery compile(Model model) {
+            return compileResult(model.searchPersons(keywords), model, true);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof KeywordsQuery && keywords.equals(((KeywordsQuery) other).keywords));
+        }
+
+        @Override
+        public int hashCode() {
+            return keywords.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("keywords", keywords).toString();
+        }
+    }
+
+    private static class FieldQuery extends PersonQuery {
+        private final SearchField field;
+        private final String value;
+        private final boolean isPrefix;
+
+        FieldQuery(SearchField field, String value, boolean isPrefix) {
+            requireAllNonNull(field, value);
+            this.field = field;
+            this.value = value;
+            this.isPrefix = isPrefix;
+        }
+
+        @Override
+        public CompiledQuery compile(Model model) {
+            return compileResult(model.lookupPersons(field, value, isPrefix), model, false);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof FieldQuery)) {
+                return false;
+            }
+            FieldQuery otherQuery = (FieldQuery) other;
+            return field == otherQuery.field && value.equals(otherQuery.value) && isPrefix == otherQuery.isPrefix;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, value, isPrefix);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("field", field).add("value", value).add("isPrefix", isPrefix)
+                    .toString();
+        }
+    }
+
+    private static class PhoneQuery extends PersonQuery {
+        private final String value;
+        private final boolean isPrefix;
+
+        PhoneQuery(String value, boolean isPrefix) {
+            requireNonNull(value);
+            this.value = value;
+            this.isPrefix = isPrefix;
+        }
+
+        @Override
+        public CompiledQuery compile(Model model) {
+            Predicate<Person> predicate = isPrefix
+                    ? person -> person.getPhone().value.startsWith(value)
+                    : person -> person.getPhone().value.equals(value);
+            return new CompiledQuery(predicate, CompiledQuery.DEFAULT_SELECTIVITY, CompiledQuery.FIELD_SCAN_COST,
+                    null);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof PhoneQuery)) {
+                return false;
+            }
+            PhoneQuery otherQuery = (PhoneQuery) other;
+            return value.equals(otherQuery.value) && isPrefix == otherQuery.isPrefix;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value, isPrefix);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("value", value).add("isPrefix", isPrefix).toString();
+        }
+    }
+
+    private static class HomeworkQuery extends PersonQuery {
+        private final int assignmentId;
+        private final HomeworkStatus status;
+
+        HomeworkQuery(int assignmentId, HomeworkStatus status) {
+            requireNonNull(status);
+            this.assignmentId = assignmentId;
+            this.status = status;
+        }
+
+        @Override
+        public CompiledQuery compile(Model model) {
+            return new CompiledQuery(person -> person.getHomeworkTracker().hasStatus(assignmentId, status),
+                    CompiledQuery.DEFAULT_SELECTIVITY, CompiledQuery.FIELD_SCAN_COST, null);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof HomeworkQuery)) {
+                return false;
+            }
+            HomeworkQuery otherQuery = (HomeworkQuery) other;
+            return assignmentId == otherQuery.assignmentId && status == otherQuery.status;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(assignmentId, status);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("assignmentId", assignmentId).add("status", status).toString();
+        }
+    }
+
+    private static class AndQuery extends PersonQuery {
+        private final List<PersonQuery> clauses;
+
+        AndQuery(List<PersonQuery> clauses) {
+            requireAllNonNull(clauses);
+            this.clauses = List.copyOf(clauses);
+        }
+
+        @Override
+        public CompiledQuery compile(Model model) {
+            List<CompiledQuery> compiled = new ArrayList<>();
+            for (PersonQuery clause : clauses) {
+                CompiledQuery compiledClause = clause.compile(model);
+                if (compiledClause.isNone()) {
+                    return CompiledQuery.NONE;
+                }
+                if (!compiledClause.isAll()) {
+                    compiled.add(compiledClause);
+                }
+            }
+            if (compiled.isEmpty()) {
+                return CompiledQuery.ALL;
+            }
+            if (compiled.size() == 1) {
+                return compiled.get(0);
+            }
+
+            // Test first the clauses that reject the most persons for their cost
+            compiled.sort(Comparator.comparingDouble(clause ->
+                    clause.getCost() / Math.max(1 - clause.getSelectivity(), MIN_PROBABILITY)));
+            Predicate<Person>[] predicates = toPredicates(compiled);
+            Predicate<Person> predicate = person -> {
+                for (Predicate<Person> clausePredicate : predicates) {
+                    if (!clausePredicate.test(person)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+
+            double selectivity = 1;
+            double cost = 0;
+            for (CompiledQuery clause : compiled) {
+                cost += selectivity * clause.getCost();
+                selectivity *= clause.getSelectivity();
+            }
+            return new CompiledQuery(predicate, selectivity, cost, sumScorers(compiled));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof AndQuery && clauses.equals(((AndQuery) other).clauses));
+        }
+
+        @Override
+        public int hashCode() {
+            return clauses.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("clauses", clauses).toString();
+        }
+    }
+
+    private static class OrQuery extends PersonQuery {
+        private final List<PersonQuery> clauses;
+
+        OrQuery(List<PersonQuery> clauses) {
+            requireAllNonNull(clauses);
+            this.clauses = List.copyOf(clauses);
+        }
+
+        @Override
+        public CompiledQuery compile(Model model) {
+            List<CompiledQuery> compiled = new ArrayList<>();
+            for (PersonQuery clause : clauses) {
+                CompiledQuery compiledClause = clause.compile(model);
+                if (compiledClause.isAll()) {
+                    return CompiledQuery.ALL;
+                }
+                if (!compiledClause.isNone()) {
+                    compiled.add(compiledClause);
+                }
+            }
+            if (compiled.isEmpty()) {
+                return CompiledQuery.NONE;
+            }
+            if (compiled.size() == 1) {
+                return compiled.get(0);
+            }
+
+            // Test first the clauses that accept the most persons for their cost
+            compiled.sort(Comparator.comparingDouble(clause ->
+                    clause.getCost() / Math.max(clause.getSelectivity(), MIN_PROBABILITY)));
+            Predicate<Person>[] predicates = toPredicates(compiled);
+            Predicate<Person> predicate = person -> {
+                for (Predicate<Person> clausePredicate : predicates) {
+                    if (clausePredicate.test(person)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+
+            double rejected = 1;
+            double cost = 0;
+            for (CompiledQuery clause : compiled) {
+                cost += rejected * clause.getCost();
+                rejected *= 1 - clause.getSelectivity();
+            }
+            return new CompiledQuery(predicate, 1 - rejected, cost, sumScorers(compiled));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof OrQuery && clauses.equals(((OrQuery) other).clauses));
+        }
+
+        @Override
+        public int hashCode() {
+            return clauses.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("clauses", clauses).toString();
+        }
+    }
+
+    private static class NotQuery extends PersonQuery {
+        private final PersonQuery clause;
+
+        NotQuery(PersonQuery clause) {
+            requireNonNull(clause);
+            this.clause = clause;
+        }
+
+        @Override
+        public CompiledQuery compile(Model model) {
+            CompiledQuery compiledClause = clause.compile(model);
+            if (compiledClause.isNone()) {
+                return CompiledQuery.ALL;
+            }
+            if (compiledClause.isAll()) {
+                return CompiledQuery.NONE;
+            }
+            return new CompiledQuery(compiledClause.getPredicate().negate(), 1 - compiledClause.getSelectivity(),
+                    compiledClause.getCost(), null);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof NotQuery && clause.equals(((NotQuery) other).clause));
+        }
+
+        @Override
+        public int hashCode() {
+            return clause.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("clause", clause).toString();
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A sorted dictionary of the case-folded tokens of every {@link SearchField} of a set of persons, answering searches
+ * that match tokens exactly, by prefix, or within a small number of typos.
+ *
+ * Typo-tolerant matching walks a sorted array of the tokens as if it were a trie: the rows of the edit distance table
+ * for a token's prefix are shared with the next token that has the same prefix, and once no cell in a row is within
+ * the allowed number of edits, every token with that prefix is skipped. This keeps searches fast regardless of how
+ * many tokens are indexed. The array is rebuilt on the first such search after the set of tokens changes.
+ *
+ * Persons are tracked by identity, as the index is kept in step with a list that holds the indexed instances.
+ */
+public class PersonSearchIndex {
+
+    /** Score of a term that equals a token. */
+    static final double EXACT_SCORE = 1.0;
+
+    /** Score of a term that is a prefix of a token, before adding a bonus for how much of the token it covers. */
+    static final double PREFIX_SCORE = 0.5;
+
+    /** Highest score of a term that is within the allowed number of edits of a token. */
+    static final double FUZZY_SCORE = 0.4;
+
+    /** Terms of at least this length may have one typo. */
+    static final int MIN_LENGTH_FOR_ONE_EDIT = 4;
+
+    /** Terms of at least this length may have two typos. */
+    static final int MIN_LENGTH_FOR_TWO_EDITS = 8;
+
+    private static final char HANDLE_PREFIX = '@';
+
+    private final NavigableMap<String, Postings> postingsByToken = new TreeMap<>();
+
+    /** The keys of {@code postingsByToken} in order, or null if they have changed since the array was built. */
+    private SortedTokens sortedTokens;
+
+    /**
+     * Indexes every token of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (SearchField field : SearchField.values()) {
+            field.forEachToken(person, token ->
+                    postingsByToken.computeIfAbsent(StringUtil.foldCase(token), this::newPostings).add(person, field));
+        }
+    }
+
+    /**
+     * Removes {@code person} from the postings of every token it has.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (SearchField field : SearchField.values()) {
+            field.forEachToken(person, token -> {
+                String foldedToken = StringUtil.foldCase(token);
+                Postings postings = postingsByToken.get(foldedToken);
+                if (postings == null) {
+                    return;
+                }
+                postings.remove(person);
+                if (postings.isEmpty()) {
+                    postingsByToken.remove(foldedToken);
+                    sortedTokens = null;
+                }
+            });
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the index.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireNonNull(editedPerson);
+        if (!hasSameTokens(target, editedPerson)) {
+            remove(target);
+            add(editedPerson);
+            return;
+        }
+
+        // Most edits (e.g. marking homework) leave the searchable fields alone, so the tokens can be kept
+        for (SearchField field : SearchField.values()) {
+            field.forEachToken(target, token ->
+                    postingsByToken.get(StringUtil.foldCase(token)).replace(target, editedPerson));
+        }
+    }
+
+    private static boolean hasSameTokens(Person first, Person second) {
+        return first.getName().equals(second.getName())
+                && first.getNusnetid().equals(second.getNusnetid())
+                && first.getTelegram().equals(second.getTelegram())
+                && first.getEmail().equals(second.getEmail())
+                && first.getSlot().equals(second.getSlot());
+    }
+
+    /**
+     * Replaces the contents of the index with the given persons.
+     */
+    public void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        postingsByToken.clear();
+        sortedTokens = null;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons with a token that matches any of {@code terms}, scored by how well they match.
+     * A term scores highest when it equals a token, less when it is a prefix of a token, and least when it is within
+     * a typo or two of a token; the score is scaled by the weight of the field the token is in. A person's score is
+     * the sum of the best score of each term.
+     * Terms are matched ignoring case and a leading {@code @}. Typos are not tolerated in terms containing digits, as
+     * a typo in an ID usually gives another valid ID.
+     */
+    public SearchResult search(Collection<String> terms) {
+        requireNonNull(terms);
+        String[] foldedTerms = terms.stream()
+                .map(term -> StringUtil.foldCase(stripHandlePrefix(term.trim())))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+
+        Map<Person, double[]> termScoresByPerson = new IdentityHashMap<>();
+        for (int i = 0; i < foldedTerms.length; i++) {
+            int termIndex = i;
+            TokenScorer scorer = (token, score) -> postingsByToken.get(token).forEach((person, fields) -> {
+                double[] termScores = termScoresByPerson.computeIfAbsent(person,
+                        unused -> new double[foldedTerms.length]);
+                termScores[termIndex] = Math.max(termScores[termIndex], score * SearchField.maxWeight(fields));
+            });
+            scoreTerm(foldedTerms[i], scorer);
+        }
+
+        Map<Name, Double> scoresByName = new HashMap<>();
+        termScoresByPerson.forEach((person, termScores) ->
+                scoresByName.put(person.getName(), Arrays.stream(termScores).sum()));
+        return new SearchResult(scoresByName);
+    }
+
+    /**
+     * Returns the persons whose {@code field} has a token equal to {@code value}, or starting with {@code value} if
+     * {@code isPrefix} is true, ignoring case (and a leading {@code @} for Telegram handles). Every match has the same
+     * score.
+     */
+    public SearchResult lookup(SearchField field, String value, boolean isPrefix) {
+        requireNonNull(field);
+        requireNonNull(value);
+        String token = StringUtil.foldCase(field == SearchField.TELEGRAM ? stripHandlePrefix(value) : value);
+        Map<Name, Double> scoresByName = new HashMap<>();
+        Collection<Postings> matches;
+        if (isPrefix) {
+            matches = postingsByToken.subMap(token, true, token + Character.MAX_VALUE, false).values();
+        } else {
+            Postings postings = postingsByToken.get(token);
+            matches = postings == null ? Collections.emptyList() : Collections.singletonList(postings);
+        }
+        for (Postings postings : matches) {
+            postings.forEach((person, fields) -> {
+                if ((fields & field.mask()) != 0) {
+                    scoresByName.put(person.getName(), EXACT_SCORE);
+                }
+            });
+        }
+        return new SearchResult(scoresByName);
+    }
+
+    /**
+     * Passes every token that matches {@code term}, with the score of the match, to {@code scorer}.
+     */
+    private void scoreTerm(String term, TokenScorer scorer) {
+        for (Map.Entry<String, Postings> entry : postingsByToken.tailMap(term, true).entrySet()) {
+            String token = entry.getKey();
+            if (!token.startsWith(term)) {
+                break;
+            }
+            double score = token.length() == term.length()
+                    ? EXACT_SCORE
+                    : PREFIX_SCORE + (EXACT_SCORE - PREFIX_SCORE) * term.length() / (token.length() + 1);
+            scorer.accept(token, score);
+        }
+
+        int maxEdits = getMaxEdits(term);
+        if (maxEdits > 0) {
+            forEachTokenWithinEdits(term, maxEdits, (token, edits) -> {
+                if (!token.startsWith(term)) {
+                    scorer.accept(token, FUZZY_SCORE * (maxEdits + 1 - edits) / (maxEdits + 1));
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the number of typos tolerated in {@code term}.
+     */
+    static int getMaxEdits(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            if (Character.isDigit(term.charAt(i))) {
+                return 0;
+            }
+        }
+        if (term.length() >= MIN_LENGTH_FOR_TWO_EDITS) {
+            return 2;
+        }
+        return term.length() >= MIN_LENGTH_FOR_ONE_EDIT ? 1 : 0;
+    }
+
+    /**
+     * Passes every token within {@code maxEdits} insertions, deletions, substitutions or transpositions of adjacent
+     * characters of {@code term}, with its distance from {@code term}, to {@code action}.
+     */
+    private void forEachTokenWithinEdits(String term, int maxEdits, TokenDistanceConsumer action) {
+        if (sortedTokens == null) {
+            sortedTokens = new SortedTokens(postingsByToken.keySet());
+        }
+        SortedTokens tokens = sortedTokens;
+        int[][] rows = new int[term.length() + maxEdits + 2][term.length() + 1];
+        Arrays.setAll(rows[0], j -> j);
+
+        int previous = -1;
+        int validRows = 0; // rows[0..validRows] hold the table for the first validRows characters of the previous token
+        int i = 0;
+        while (i < tokens.size()) {
+            int length = tokens.length(i);
+            int row = (previous < 0 ? 0 : Math.min(tokens.commonPrefixLength(previous, i), validRows)) + 1;
+            // Once a row is more than maxEdits longer than term, none of its cells can be within maxEdits of term
+            int lastRow = Math.min(length, term.length() + maxEdits + 1);
+            boolean isPruned = false;
+            for (; row <= lastRow; row++) {
+                if (!fillRow(rows, row, tokens, i, term, maxEdits)) {
+                    isPruned = true;
+                    break;
+                }
+            }
+            previous = i;
+            if (isPruned) {
+                // No token starting with the first row characters of this one can be within maxEdits of term
+                validRows = row - 1;
+                i = tokens.skipPrefix(i, row);
+                continue;
+            }
+
+            validRows = length;
+            int distance = rows[length][term.length()];
+            if (distance <= maxEdits) {
+                action.accept(tokens.get(i), distance);
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Fills in row {@code row} of the edit distance table between the prefixes of token {@code index} and
+     * {@code term}, and returns false if every cell in the row exceeds {@code maxEdits}.
+     */
+    private static boolean fillRow(int[][] rows, int row, SortedTokens tokens, int index, String term, int maxEdits) {
+        int[] current = rows[row];
+        int[] previous = rows[row - 1];
+        char tokenChar = tokens.charAt(index, row - 1);
+        char previousTokenChar = row > 1 ? tokens.charAt(index, row - 2) : 0;
+
+        current[0] = row;
+        int rowMin = current[0];
+        for (int j = 1; j <= term.length(); j++) {
+            char termChar = term.charAt(j - 1);
+            int cost = tokenChar == termChar ? 0 : 1;
+            int distance = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            if (row > 1 && j > 1 && tokenChar == term.charAt(j - 2) && previousTokenChar == termChar) {
+                distance = Math.min(distance, rows[row - 2][j - 2] + 1);
+            }
+            current[j] = distance;
+            rowMin = Math.min(rowMin, distance);
+        }
+        return rowMin <= maxEdits;
+    }
+
+    private Postings newPostings(String token) {
+        sortedTokens = null;
+        return new Postings();
+    }
+
+    /**
+     * Returns {@code handle} without its leading {@code @}, if any.
+     */
+    static String stripHandlePrefix(String handle) {
+        return !handle.isEmpty() && handle.charAt(0) == HANDLE_PREFIX ? handle.substring(1) : handle;
+    }
+
+    /**
+     * The tokens of the index in order, with their characters packed into one array so that walking and skipping
+     * through them does not chase a pointer per token.
+     */
+    private static class SortedTokens {
+        private final String[] tokens;
+        private final char[] chars;
+        private final int[] starts; // token i is chars[starts[i]..starts[i + 1])
+
+        SortedTokens(Collection<String> sortedKeys) {
+            tokens = sortedKeys.toArray(new String[0]);
+            starts = new int[tokens.length + 1];
+            for (int i = 0; i < tokens.length; i++) {
+                starts[i + 1] = starts[i] + tokens[i].length();
+            }
+            chars = new char[starts[tokens.length]];
+            for (int i = 0; i < tokens.length; i++) {
+                tokens[i].getChars(0, tokens[i].length(), chars, starts[i]);
+            }
+        }
+
+        int size() {
+            return tokens.length;
+        }
+
+        String get(int index) {
+            return tokens[index];
+        }
+
+        int length(int index) {
+            return starts[index + 1] - starts[index];
+        }
+
+        char charAt(int index, int position) {
+            return chars[starts[index] + position];
+        }
+
+        int commonPrefixLength(int first, int second) {
+            int length = Math.min(length(first), length(second));
+            int i = 0;
+            while (i < length && charAt(first, i) == charAt(second, i)) {
+                i++;
+            }
+            return i;
+        }
+
+        boolean hasPrefix(int index, int prefixIndex, int prefixLength) {
+            if (length(index) < prefixLength) {
+                return false;
+            }
+            for (int i = prefixLength - 1; i >= 0; i--) {
+                if (charAt(index, i) != charAt(prefixIndex, i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the index of the first token after {@code start} that does not start with the first
+         * {@code prefixLength} characters of token {@code start}, or {@link #size()} if there is none.
+         * Searches by doubling the step from {@code start}, as the skipped tokens are usually few.
+         */
+        int skipPrefix(int start, int prefixLength) {
+            int lastMatch = start;
+            int step = 1;
+            while (lastMatch + step < tokens.length && hasPrefix(lastMatch + step, start, prefixLength)) {
+                lastMatch += step;
+                step *= 2;
+            }
+
+            int low = lastMatch + 1;
+            int high = Math.min(lastMatch + step, tokens.length); // token high does not have the prefix, if it exists
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (hasPrefix(mid, start, prefixLength)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    @FunctionalInterface
+    private interface TokenScorer {
+        void accept(String token, double score);
+    }
+
+    @FunctionalInterface
+    private interface TokenDistanceConsumer {
+        void accept(String token, int distance);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.search;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The persons that have a particular token, and the mask of {@link SearchField}s each of them has it in.
+ * Most tokens (NUSNET IDs, emails, Telegram handles) belong to a single person, so that case is stored without a map.
+ */
+class Postings {
+
+    private Person onlyPerson;
+    private int onlyFields;
+    private Map<Person, Integer> fieldsByPerson;
+
+    /**
+     * Records that {@code person} has the token in {@code field}.
+     */
+    void add(Person person, SearchField field) {
+        if (fieldsByPerson != null) {
+            fieldsByPerson.merge(person, field.mask(), (oldFields, newField) -> oldFields | newField);
+        } else if (onlyPerson == null || onlyPerson == person) {
+            onlyPerson = person;
+            onlyFields |= field.mask();
+        } else {
+            fieldsByPerson = new IdentityHashMap<>();
+            fieldsByPerson.put(onlyPerson, onlyFields);
+            fieldsByPerson.put(person, field.mask());
+            onlyPerson = null;
+            onlyFields = 0;
+        }
+    }
+
+    /**
+     * Removes {@code person} from the postings, whichever fields it had the token in.
+     */
+    void remove(Person person) {
+        if (fieldsByPerson != null) {
+            fieldsByPerson.remove(person);
+        } else if (onlyPerson == person) {
+            onlyPerson = null;
+            onlyFields = 0;
+        }
+    }
+
+    /**
+     * Gives {@code editedPerson} the fields {@code target} has the token in, in place of {@code target}.
+     */
+    void replace(Person target, Person editedPerson) {
+        if (fieldsByPerson != null) {
+            Integer fields = fieldsByPerson.remove(target);
+            if (fields != null) {
+                fieldsByPerson.put(editedPerson, fields);
+            }
+        } else if (onlyPerson == target) {
+            onlyPerson = editedPerson;
+        }
+    }
+
+    boolean isEmpty() {
+        return fieldsByPerson != null ? fieldsByPerson.isEmpty() : onlyPerson == null;
+    }
+
+    /**
+     * Passes every person with the token, and the mask of fields it has the token in, to {@code action}.
+     */
+    void forEach(ObjIntConsumer<Person> action) {
+        if (fieldsByPerson != null) {
+            fieldsByPerson.forEach(action::accept);
+        } else if (onlyPerson != null) {
+            action.accept(onlyPerson, onlyFields);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.search;
+
+import java.util.function.Consumer;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A field of a {@link Person} that is indexed for searching, together with the weight a match in that field carries
+ * when ranking results.
+ * A field's bit in a mask of fields is given by {@link #mask()}, so new fields can be added anywhere.
+ */
+public enum SearchField {
+    NAME(1.0) {
+        @Override
+        void forEachToken(Person person, Consumer<String> action) {
+            person.getName().getFoldedWords().forEach(action);
+        }
+    },
+    NUSNETID(1.0) {
+        @Override
+        void forEachToken(Person person, Consumer<String> action) {
+            action.accept(person.getNusnetid().value);
+        }
+    },
+    TELEGRAM(0.8) {
+        @Override
+        void forEachToken(Person person, Consumer<String> action) {
+            action.accept(PersonSearchIndex.stripHandlePrefix(person.getTelegram().value));
+        }
+    },
+    EMAIL(0.8) {
+        @Override
+        void forEachToken(Person person, Consumer<String> action) {
+            String email = person.getEmail().value;
+            action.accept(email);
+            int at = email.indexOf('@');
+            if (at > 0) {
+                action.accept(email.substring(0, at));
+            }
+        }
+    },
+    SLOT(0.6) {
+        @Override
+        void forEachToken(Person person, Consumer<String> action) {
+            action.accept(person.getSlot().value);
+        }
+    };
+
+    private final double weight;
+
+    SearchField(double weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Passes each searchable word of this field of {@code person} to {@code action}, which need not be case-folded.
+     */
+    abstract void forEachToken(Person person, Consumer<String> action);
+
+    /**
+     * Returns the factor that the score of a match in this field is multiplied by.
+     */
+    public double getWeight() {
+        return weight;
+    }
+
+    /**
+     * Returns the bit representing this field in a mask of fields.
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Returns the largest weight among the fields in {@code mask}.
+     */
+    static double maxWeight(int mask) {
+        double max = 0;
+        for (SearchField field : values()) {
+            if ((mask & field.mask()) != 0) {
+                max = Math.max(max, field.weight);
+            }
+        }
+        return max;
+    }
+}
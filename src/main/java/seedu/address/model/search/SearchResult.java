@@ -0,0 +1,62 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons matched by a search, each with the score that results are ranked by.
+ * Persons are recorded by name, which identifies a person in the address book, so a person stays in the result when
+ * its other fields (e.g. its homework) are edited after the search.
+ */
+public class SearchResult implements Predicate<Person> {
+
+    private final Map<Name, Double> scoresByName;
+
+    SearchResult(Map<Name, Double> scoresByName) {
+        this.scoresByName = Collections.unmodifiableMap(scoresByName);
+    }
+
+    /**
+     * Returns true if {@code person} was matched by the search.
+     */
+    @Override
+    public boolean test(Person person) {
+        requireNonNull(person);
+        return scoresByName.containsKey(person.getName());
+    }
+
+    /**
+     * Returns the score of {@code person}, or 0 if it was not matched by the search.
+     */
+    public double getScore(Person person) {
+        requireNonNull(person);
+        return scoresByName.getOrDefault(person.getName(), 0.0);
+    }
+
+    /**
+     * Returns the number of persons matched by the search.
+     */
+    public int size() {
+        return scoresByName.size();
+    }
+
+    /**
+     * Returns a comparator that orders persons from the highest score to the lowest.
+     */
+    public Comparator<Person> getRankComparator() {
+        return Comparator.comparingDouble(this::getScore).reversed();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("scores", scoresByName).toString();
+    }
+}
@@ -18,17 +18,17 @@ public class SampleDataUtil {
     public static Person[] getSamplePersons() {
         return new Person[] {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeo@u.nus.edu"),
-                new Nusnetid("E1234567"), new Telegram("@alex"), new Slot("T01"), new HomeworkTracker()),
+                new Nusnetid("E1234567"), new Telegram("@alex"), Slot.of("T01"), new HomeworkTracker()),
             new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@u.nus.edu"),
-                new Nusnetid("E1234568"), new Telegram("@bernice_yu"), new Slot("T02"), new HomeworkTracker()),
+                new Nusnetid("E1234568"), new Telegram("@bernice_yu"), Slot.of("T02"), new HomeworkTracker()),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@u.nus.edu"),
-                new Nusnetid("E1234569"), new Telegram("@oliv"), new Slot("T01"), new HomeworkTracker()),
+                new Nusnetid("E1234569"), new Telegram("@oliv"), Slot.of("T01"), new HomeworkTracker()),
             new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@u.nus.edu"),
-                new Nusnetid("E1234560"), new Telegram("@davidddd"), new Slot("T15"), new HomeworkTracker()),
+                new Nusnetid("E1234560"), new Telegram("@davidddd"), Slot.of("T15"), new HomeworkTracker()),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@u.nus.edu"),
-                new Nusnetid("E1234562"), new Telegram("@ibraccccc"), new Slot("T12"), new HomeworkTracker()),
+                new Nusnetid("E1234562"), new Telegram("@ibraccccc"), Slot.of("T12"), new HomeworkTracker()),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@u.nus.edu"),
-                new Nusnetid("E1234563"), new Telegram("@Royy"), new Slot("T09"), new HomeworkTracker())
+                new Nusnetid("E1234563"), new Telegram("@Royy"), Slot.of("T09"), new HomeworkTracker())
         };
     }
 
@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Loads {@code JsonAdaptedPerson}s into a new {@code AddressBook}, in the order they are given.
+ * <p>
+ * Persons are buffered into batches. Each batch is converted and validated in parallel on the common fork-join pool,
+ * and then inserted into the address book on the calling thread, in order. Invalid and duplicate persons do not stop
+ * the load; their errors are collected with their row numbers (starting from 1) and reported together by
+ * {@link #finish()}.
+ * </p>
+ */
+class AdaptedPersonLoader {
+
+    public static final String MESSAGE_ROW_ERROR = "Row %d: %s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %d more error(s)";
+
+    /** Number of persons converted together. Bounds the number of converted persons waiting to be inserted. */
+    static final int BATCH_SIZE = 4096;
+    /** Batches smaller than this are converted on the calling thread, as forking would cost more than it saves. */
+    static final int PARALLEL_THRESHOLD = 256;
+    static final int MAX_REPORTED_ERRORS = 20;
+
+    private final AddressBook addressBook = new AddressBook();
+    private final List<JsonAdaptedPerson> batch = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private int rowsInserted;
+
+    /**
+     * Adds {@code person} as the next row of the address book.
+     */
+    public void add(JsonAdaptedPerson person) {
+        batch.add(person);
+        if (batch.size() == BATCH_SIZE) {
+            loadBatch();
+        }
+    }
+
+    /**
+     * Adds all of {@code persons}, in order.
+     */
+    public void addAll(List<JsonAdaptedPerson> persons) {
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the address book with all the persons added.
+     *
+     * @throws IllegalValueException if any person was invalid or a duplicate, listing the errors with their rows.
+     */
+    public AddressBook finish() throws IllegalValueException {
+        loadBatch();
+        if (errors.isEmpty()) {
+            return addressBook;
+        }
+
+        List<String> reportedErrors = new ArrayList<>(errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS)));
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            reportedErrors.add(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_REPORTED_ERRORS));
+        }
+        throw new IllegalValueException(String.join("\n", reportedErrors));
+    }
+
+    private void loadBatch() {
+        int size = batch.size();
+        Person[] persons = new Person[size];
+        String[] conversionErrors = new String[size];
+
+        IntStream indices = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                persons[i] = batch.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                conversionErrors[i] = ive.getMessage();
+            }
+        });
+
+        for (int i = 0; i < size; i++) {
+            int row = rowsInserted + i + 1;
+            if (conversionErrors[i] != null) {
+                errors.add(String.format(MESSAGE_ROW_ERROR, row, conversionErrors[i]));
+            } else if (addressBook.hasPerson(persons[i])) {
+                errors.add(String.format(MESSAGE_ROW_ERROR, row, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+            } else {
+                addressBook.addPerson(persons[i]);
+            }
+        }
+
+        rowsInserted += size;
+        batch.clear();
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread.
+ * <p>
+ * {@link #save(ReadOnlyAddressBook)} takes a snapshot of the address book and returns without waiting for the write.
+ * Snapshots that are submitted while an earlier one is still waiting to be written replace it, so a burst of changes
+ * results in a single write of the latest data. Failed writes are reported to the failure handler on the background
+ * thread.
+ * </p>
+ */
+public class BackgroundAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final Consumer<IOException> failureHandler;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    /** The latest snapshot that has not been written yet, or null if there is none. Guarded by {@code lock}. */
+    private ReadOnlyAddressBook pendingSnapshot;
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that writes to {@code storage} and reports failed writes to
+     * {@code failureHandler}.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage storage, Consumer<IOException> failureHandler) {
+        requireNonNull(storage);
+        requireNonNull(failureHandler);
+        this.storage = storage;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved to the storage's default file path.
+     * The persons are immutable, so later changes to {@code addressBook} do not affect the data that is saved.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = new Snapshot(addressBook);
+
+        synchronized (lock) {
+            boolean isWriteScheduled = pendingSnapshot != null;
+            pendingSnapshot = snapshot;
+            if (isWriteScheduled) {
+                logger.fine("Coalesced address book save with a pending save");
+                return;
+            }
+        }
+        executor.execute(this::writePendingSnapshot);
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (lock) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + e.getMessage());
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Blocks until every address book passed to {@link #save(ReadOnlyAddressBook)} so far has been written.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A read-only copy of the persons and assignments of an address book.
+     * Unlike an {@code AddressBook}, it does not check the persons for duplicates or index them, so taking one on the
+     * calling thread costs no more than copying the list of persons.
+     */
+    static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final List<Assignment> assignments;
+
+        Snapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(List.copyOf(addressBook.getPersonList())));
+            assignments = List.copyOf(addressBook.getAssignmentList());
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public List<Assignment> getAssignmentList() {
+            return assignments;
+        }
+    }
+}
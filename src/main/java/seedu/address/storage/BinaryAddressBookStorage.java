@@ -0,0 +1,297 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC}, the format version and the assignments, each as its ID byte, its title and,
+ * if it has a due date, the date's epoch day. The number of persons follows, and then each person as a record
+ * prefixed with its length in bytes, holding the person's fields as length-prefixed UTF-8 strings and the homework as
+ * (id, {@link HomeworkStatus} ordinal) byte pairs. Readers skip any bytes left at the end of a record, so later
+ * versions can append fields to it.
+ * </p>
+ * A JSON data file found where a binary file is expected, or next to a missing binary file (see
+ * {@link #getBinaryFilePath(Path)}), is imported, so the format can be switched without converting the data file by
+ * hand.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** "AB3B" in ASCII. */
+    public static final int MAGIC = 0x41423342;
+    public static final short FORMAT_VERSION = 2;
+    public static final String FILE_EXTENSION = ".bin";
+    private static final String JSON_FILE_EXTENSION = ".json";
+    /** The version before assignments were stored. Such files get the default assignments when read. */
+    static final short FORMAT_VERSION_WITHOUT_ASSIGNMENTS = 1;
+
+    public static final String MESSAGE_NOT_BINARY = "File is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+    public static final String MESSAGE_INVALID_STATUS_CODE = "Homework status code is invalid: %d";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private final int backupCount;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, JsonAddressBookStorage.DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that keeps {@code backupCount} backups of the previous versions of
+     * the data file whenever it is saved.
+     */
+    public BinaryAddressBookStorage(Path filePath, int backupCount) {
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Returns the path to keep a binary data file at, in place of the data file at {@code filePath}: the same path
+     * with the {@value #FILE_EXTENSION} extension if {@code filePath} has the {@code .json} extension, so a binary
+     * file is not mistaken for a JSON one, or {@code filePath} itself otherwise.
+     */
+    public static Path getBinaryFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (!fileName.endsWith(JSON_FILE_EXTENSION)) {
+            return filePath;
+        }
+        return filePath.resolveSibling(
+                fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length()) + FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the JSON data file that the binary data file at {@code filePath} takes the place of, or
+     * {@code Optional.empty()} if it does not have the {@value #FILE_EXTENSION} extension.
+     */
+    private static Optional<Path> getJsonFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (!fileName.endsWith(FILE_EXTENSION)) {
+            return Optional.empty();
+        }
+        return Optional.of(filePath.resolveSibling(
+                fileName.substring(0, fileName.length() - FILE_EXTENSION.length()) + JSON_FILE_EXTENSION));
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            Optional<Path> jsonFilePath = getJsonFilePath(filePath);
+            if (jsonFilePath.isPresent() && Files.exists(jsonFilePath.get())) {
+                logger.info("Importing JSON data from " + jsonFilePath.get());
+                return new JsonAddressBookStorage(jsonFilePath.get()).readAddressBook(jsonFilePath.get());
+            }
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (isJson(in)) {
+                logger.info("Importing JSON data from " + filePath);
+                return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+            return Optional.of(readFrom(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out));
+            writeTo(addressBook, dataOut);
+            dataOut.flush();
+        }, backupCount);
+    }
+
+    /**
+     * Returns true if {@code in} holds a JSON document rather than a binary address book.
+     * Leaves {@code in} at the same position.
+     */
+    private static boolean isJson(InputStream in) throws IOException {
+        in.mark(1);
+        int firstByte = in.read();
+        in.reset();
+        return firstByte == '{' || Character.isWhitespace(firstByte);
+    }
+
+    private static void writeTo(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+
+        List<Assignment> assignments = addressBook.getAssignmentList();
+        out.writeShort(assignments.size());
+        for (Assignment assignment : assignments) {
+            out.writeByte(assignment.getId());
+            out.writeUTF(assignment.getTitle());
+            out.writeBoolean(assignment.getDueDate().isPresent());
+            if (assignment.getDueDate().isPresent()) {
+                out.writeLong(assignment.getDueDate().get().toEpochDay());
+            }
+        }
+
+        out.writeInt(addressBook.getPersonList().size());
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(256);
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : addressBook.getPersonList()) {
+            recordBytes.reset();
+            writePerson(person, record);
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+    }
+
+    private static void writePerson(Person person, DataOutputStream out) throws IOException {
+        out.writeUTF(person.getName().fullName);
+        out.writeUTF(person.getPhone().value);
+        out.writeUTF(person.getEmail().value);
+        out.writeUTF(person.getNusnetid().value);
+        out.writeUTF(person.getSlot().value);
+        out.writeUTF(person.getTelegram().value);
+
+        Map<Integer, Homework> homework = person.getHomeworkTracker().asMap();
+        out.writeByte(homework.size());
+        for (Homework hw : homework.values()) {
+            out.writeByte(hw.getId());
+            out.writeByte(hw.getHomeworkStatus().ordinal());
+        }
+    }
+
+    private static AddressBook readFrom(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        short version = in.readShort();
+        if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_ASSIGNMENTS) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        List<Assignment> assignments = version == FORMAT_VERSION ? readAssignments(in) : null;
+
+        int personCount = in.readInt();
+        AdaptedPersonLoader loader = new AdaptedPersonLoader();
+        for (int i = 0; i < personCount; i++) {
+            byte[] record = new byte[in.readInt()];
+            in.readFully(record);
+            loader.add(readPerson(new DataInputStream(new ByteArrayInputStream(record))));
+        }
+        AddressBook addressBook = loader.finish();
+        if (assignments != null) {
+            try {
+                addressBook.setAssignments(assignments);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+        }
+        return addressBook;
+    }
+
+    private static List<Assignment> readAssignments(DataInputStream in) throws IOException, IllegalValueException {
+        int assignmentCount = in.readUnsignedShort();
+        List<Assignment> assignments = new ArrayList<>(assignmentCount);
+        for (int i = 0; i < assignmentCount; i++) {
+            int id = in.readUnsignedByte();
+            String title = in.readUTF();
+            LocalDate dueDate = in.readBoolean() ? LocalDate.ofEpochDay(in.readLong()) : null;
+            try {
+                assignments.add(new Assignment(id, title, dueDate));
+            } catch (IllegalArgumentException | DateTimeException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+        }
+        return assignments;
+    }
+
+    /**
+     * Reads a person record. The fields are validated when loaded, in the same way as in the JSON format.
+     */
+    private static JsonAdaptedPerson readPerson(DataInputStream in) throws IOException, IllegalValueException {
+        String name = in.readUTF();
+        String phone = in.readUTF();
+        String email = in.readUTF();
+        String nusnetid = in.readUTF();
+        String slot = in.readUTF();
+        String telegram = in.readUTF();
+
+        int homeworkCount = in.readUnsignedByte();
+        Map<Integer, JsonAdaptedHomework> homework = new HashMap<>();
+        for (int i = 0; i < homeworkCount; i++) {
+            int id = in.readUnsignedByte();
+            homework.put(id, new JsonAdaptedHomework(id, toStatus(in.readUnsignedByte())));
+        }
+
+        return new JsonAdaptedPerson(name, phone, email, nusnetid, slot, telegram, homework);
+    }
+
+    private static String toStatus(int code) throws IllegalValueException {
+        try {
+            return HomeworkStatus.fromOrdinal(code).toString();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_STATUS_CODE, code));
+        }
+    }
+}
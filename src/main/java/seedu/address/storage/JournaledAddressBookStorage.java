@@ -0,0 +1,374 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that keeps the address book as a snapshot written by another
+ * {@code AddressBookStorage}, together with an append-only journal of the changes made since that snapshot.
+ * <p>
+ * Saving compares the persons list with the one last read or written, and only appends the persons that changed to the
+ * journal. Nothing is written if nothing changed. The snapshot is rewritten and the journal cleared (i.e. the journal
+ * is compacted) once the journal grows past a threshold, or when a change cannot be expressed as journal entries.
+ * The journal only records changes to persons, so a change to the assignments also compacts the journal.
+ * Reading replays the journal on top of the snapshot.
+ * </p>
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    public static final String MESSAGE_DUPLICATE_PERSON = "Journal adds a duplicate person: %s";
+    public static final String MESSAGE_MISSING_PERSON = "Journal changes a person that does not exist: %s";
+    public static final String MESSAGE_UNKNOWN_OP = "Journal contains an unknown operation: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    /**
+     * The file whose snapshot and journal hold {@code persistedPersons} and {@code persistedAssignments}, or null if
+     * nothing was read or written.
+     */
+    private Path persistedFilePath;
+    private List<Person> persistedPersons;
+    private List<Assignment> persistedAssignments;
+    private int journalEntryCount;
+
+    /**
+     * Whether the journal last read ends with an incomplete line. Appending after it would join the new entry to that
+     * line, so the next save compacts the journal instead.
+     */
+    private boolean hasIncompleteJournal;
+
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes snapshots with {@code snapshotStorage} and compacts
+     * the journal once it holds more than {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedJournalEntry> entries = readJournal(filePath);
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        try {
+            replay(persons, entries);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + getJournalFilePath(filePath) + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.setAssignments(snapshot.get().getAssignmentList());
+        rememberPersisted(filePath, addressBook, entries.size());
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        if (filePath.equals(persistedFilePath) && FileUtil.isFileExists(filePath)
+                && addressBook.getAssignmentList().equals(persistedAssignments)) {
+            Optional<List<JsonAdaptedJournalEntry>> changes = findChanges(persistedPersons, persons);
+            if (changes.isPresent() && changes.get().isEmpty()) {
+                return;
+            }
+            if (changes.isPresent() && !hasIncompleteJournal
+                    && journalEntryCount + changes.get().size() <= compactionThreshold
+                    && changes.get().size() <= persons.size()) {
+                appendToJournal(filePath, changes.get());
+                rememberPersisted(filePath, addressBook, journalEntryCount + changes.get().size());
+                return;
+            }
+        }
+
+        compact(addressBook, filePath);
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot at {@code filePath} and deletes its journal.
+     */
+    public void compact(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        logger.fine("Compacting journal into snapshot " + filePath);
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        rememberPersisted(filePath, addressBook, 0);
+        hasIncompleteJournal = false;
+    }
+
+    private void rememberPersisted(Path filePath, ReadOnlyAddressBook addressBook, int journalEntryCount) {
+        persistedFilePath = filePath;
+        persistedPersons = new ArrayList<>(addressBook.getPersonList());
+        persistedAssignments = List.copyOf(addressBook.getAssignmentList());
+        this.journalEntryCount = journalEntryCount;
+    }
+
+    /**
+     * Returns the changes recorded in the journal of the snapshot at {@code filePath}, or an empty list if there is no
+     * journal, or the journal was written for a different version of the snapshot.
+     * An incomplete last line, left behind if the app stopped while appending to the journal, is ignored, and the
+     * journal is compacted on the next save.
+     */
+    private List<JsonAdaptedJournalEntry> readJournal(Path filePath) throws DataLoadingException {
+        Path journalPath = getJournalFilePath(filePath);
+        hasIncompleteJournal = false;
+        if (!FileUtil.isFileExists(journalPath)) {
+            return Collections.emptyList();
+        }
+
+        List<String> lines;
+        try {
+            String content = new String(Files.readAllBytes(journalPath), StandardCharsets.UTF_8);
+            hasIncompleteJournal = !content.isEmpty() && !content.endsWith("\n");
+            lines = content.lines().collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            try {
+                entries.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class));
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Error reading from journal file " + journalPath + ": " + e);
+                    throw new DataLoadingException(e);
+                }
+                logger.warning("Ignoring incomplete last entry of journal file " + journalPath);
+            }
+        }
+
+        if (entries.isEmpty() || !isJournalOf(entries.get(0), filePath)) {
+            logger.warning("Journal file " + journalPath + " does not match " + filePath + " and will be ignored.");
+            return Collections.emptyList();
+        }
+        return entries.subList(1, entries.size());
+    }
+
+    private static boolean isJournalOf(JsonAdaptedJournalEntry header, Path filePath) {
+        try {
+            return header.isSnapshotOf(Files.size(filePath), Files.getLastModifiedTime(filePath).toMillis());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void appendToJournal(Path filePath, List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        OpenOption[] options;
+        if (journalEntryCount == 0) {
+            // starts a new journal, replacing any journal left behind for an older snapshot
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.snapshot(Files.size(filePath),
+                    Files.getLastModifiedTime(filePath).toMillis()))).append('\n');
+            options = new OpenOption[] {StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING};
+        } else {
+            options = new OpenOption[] {StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND};
+        }
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        Files.write(getJournalFilePath(filePath), lines.toString().getBytes(StandardCharsets.UTF_8), options);
+    }
+
+    /**
+     * Returns the journal entries that turn {@code persisted} into {@code current}, or {@code Optional.empty()} if
+     * {@code current} cannot be reached by appending, replacing and removing persons, e.g. if persons were reordered.
+     * Persons are immutable, so unchanged persons are recognised by reference without comparing their fields.
+     */
+    private static Optional<List<JsonAdaptedJournalEntry>> findChanges(List<Person> persisted, List<Person> current) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        Set<Name> persistedNames = null;
+        Set<Name> currentNames = null;
+
+        int i = 0;
+        int j = 0;
+        while (i < persisted.size() && j < current.size()) {
+            Person persistedPerson = persisted.get(i);
+            Person currentPerson = current.get(j);
+            if (persistedPerson == currentPerson) {
+                i++;
+                j++;
+                continue;
+            }
+
+            if (persistedNames == null) {
+                persistedNames = getNames(persisted);
+                currentNames = getNames(current);
+            }
+            boolean isPersistedPersonRemoved = !currentNames.contains(persistedPerson.getName());
+            boolean isCurrentPersonNew = !persistedNames.contains(currentPerson.getName());
+            if (persistedPerson.isSamePerson(currentPerson) || (isPersistedPersonRemoved && isCurrentPersonNew)) {
+                entries.add(JsonAdaptedJournalEntry.set(persistedPerson, currentPerson));
+                i++;
+                j++;
+            } else if (isPersistedPersonRemoved) {
+                entries.add(JsonAdaptedJournalEntry.remove(persistedPerson));
+                i++;
+            } else {
+                return Optional.empty();
+            }
+        }
+
+        if (i < persisted.size() && currentNames == null) {
+            currentNames = getNames(current);
+        }
+        for (; i < persisted.size(); i++) {
+            if (currentNames.contains(persisted.get(i).getName())) {
+                return Optional.empty();
+            }
+            entries.add(JsonAdaptedJournalEntry.remove(persisted.get(i)));
+        }
+
+        if (j < current.size() && persistedNames == null) {
+            persistedNames = getNames(persisted);
+        }
+        for (; j < current.size(); j++) {
+            if (persistedNames.contains(current.get(j).getName())) {
+                return Optional.empty();
+            }
+            entries.add(JsonAdaptedJournalEntry.add(current.get(j)));
+        }
+        return Optional.of(entries);
+    }
+
+    private static Set<Name> getNames(List<Person> persons) {
+        Set<Name> names = new HashSet<>();
+        persons.forEach(person -> names.add(person.getName()));
+        return names;
+    }
+
+    /**
+     * Applies the journal {@code entries} to {@code persons} in order.
+     *
+     * @throws IllegalValueException if an entry is invalid or cannot be applied.
+     */
+    private static void replay(List<Person> persons, List<JsonAdaptedJournalEntry> entries)
+            throws IllegalValueException {
+        Map<String, Integer> indexByName = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            indexByName.put(persons.get(i).getName().fullName, i);
+        }
+
+        for (JsonAdaptedJournalEntry entry : entries) {
+            String op = String.valueOf(entry.getOp());
+            switch (op) {
+            case JsonAdaptedJournalEntry.OP_ADD: {
+                Person person = entry.toModelPerson();
+                if (indexByName.containsKey(person.getName().fullName)) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON, person.getName()));
+                }
+                indexByName.put(person.getName().fullName, persons.size());
+                persons.add(person);
+                break;
+            }
+            case JsonAdaptedJournalEntry.OP_SET: {
+                int index = getIndex(indexByName, entry.getTarget());
+                Person person = entry.toModelPerson();
+                if (!entry.getTarget().equals(person.getName().fullName)
+                        && indexByName.containsKey(person.getName().fullName)) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON, person.getName()));
+                }
+                indexByName.remove(entry.getTarget());
+                indexByName.put(person.getName().fullName, index);
+                persons.set(index, person);
+                break;
+            }
+            case JsonAdaptedJournalEntry.OP_REMOVE: {
+                int index = getIndex(indexByName, entry.getTarget());
+                persons.remove(index);
+                indexByName.remove(entry.getTarget());
+                for (int i = index; i < persons.size(); i++) {
+                    indexByName.put(persons.get(i).getName().fullName, i);
+                }
+                break;
+            }
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OP, op));
+            }
+        }
+    }
+
+    private static int getIndex(Map<String, Integer> indexByName, String name) throws IllegalValueException {
+        Integer index = indexByName.get(name);
+        if (index == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_PERSON, name));
+        }
+        return index;
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.person.Homework;
+
+/**
+ * Jackson-friendly version of {@link Assignment}.
+ * The due date is stored as an ISO-8601 date such as "2026-02-06", or null if the assignment has none.
+ */
+class JsonAdaptedAssignment {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Assignment's %s field is missing!";
+    public static final String MESSAGE_INVALID_DUE_DATE = "Assignment's due date is not a valid date: %s";
+
+    private final Integer id;
+    private final String title;
+    private final String dueDate;
+
+    /**
+     * Constructs a {@code JsonAdaptedAssignment} with the given assignment details.
+     */
+    @JsonCreator
+    public JsonAdaptedAssignment(@JsonProperty("id") Integer id, @JsonProperty("title") String title,
+            @JsonProperty("dueDate") String dueDate) {
+        this.id = id;
+        this.title = title;
+        this.dueDate = dueDate;
+    }
+
+    /**
+     * Converts a given {@code Assignment} into this class for Jackson use.
+     */
+    public JsonAdaptedAssignment(Assignment source) {
+        id = source.getId();
+        title = source.getTitle();
+        dueDate = source.getDueDate().map(LocalDate::toString).orElse(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted assignment object into the model's {@code Assignment} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted assignment.
+     */
+    public Assignment toModelType() throws IllegalValueException {
+        if (id == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "id"));
+        }
+        if (!Assignment.isValidId(id)) {
+            throw new IllegalValueException(Homework.MESSAGE_INVALID_ID);
+        }
+
+        if (title == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "title"));
+        }
+        if (!Assignment.isValidTitle(title)) {
+            throw new IllegalValueException(Assignment.MESSAGE_TITLE_CONSTRAINTS);
+        }
+
+        LocalDate modelDueDate = null;
+        if (dueDate != null) {
+            try {
+                modelDueDate = LocalDate.parse(dueDate);
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_DUE_DATE, dueDate));
+            }
+        }
+
+        return new Assignment(id, title, modelDueDate);
+    }
+}
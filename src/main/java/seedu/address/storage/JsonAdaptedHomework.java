@@ -52,7 +52,7 @@ public class JsonAdaptedHomework {
      */
     public Homework toModelType() throws IllegalValueException {
         try {
-            return new Homework(id, status);
+            return Homework.of(id, status);
         } catch (IllegalArgumentException e) {
             throw new IllegalValueException(e.getMessage());
         }
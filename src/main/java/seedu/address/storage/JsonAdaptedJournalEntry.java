@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single line in an address book change journal.
+ * <p>
+ * The first entry of a journal is a {@value #OP_SNAPSHOT} header describing the snapshot file the journal applies to.
+ * Every following entry records one change to the persons list: {@value #OP_ADD} appends a person,
+ * {@value #OP_SET} replaces the person named {@code target} in place, and {@value #OP_REMOVE} removes the person
+ * named {@code target}.
+ * </p>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String OP_SNAPSHOT = "snapshot";
+    public static final String OP_ADD = "add";
+    public static final String OP_SET = "set";
+    public static final String OP_REMOVE = "remove";
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    private final String op;
+    private final String target;
+    private final JsonAdaptedPerson person;
+    private final Long snapshotSize;
+    private final Long snapshotModified;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("target") String target,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("snapshotSize") Long snapshotSize,
+            @JsonProperty("snapshotModified") Long snapshotModified) {
+        this.op = op;
+        this.target = target;
+        this.person = person;
+        this.snapshotSize = snapshotSize;
+        this.snapshotModified = snapshotModified;
+    }
+
+    /**
+     * Returns a header entry for a journal that applies to a snapshot file of the given size and modification time.
+     */
+    public static JsonAdaptedJournalEntry snapshot(long snapshotSize, long snapshotModified) {
+        return new JsonAdaptedJournalEntry(OP_SNAPSHOT, null, null, snapshotSize, snapshotModified);
+    }
+
+    /**
+     * Returns an entry that appends {@code person} to the persons list.
+     */
+    public static JsonAdaptedJournalEntry add(Person person) {
+        return new JsonAdaptedJournalEntry(OP_ADD, null, new JsonAdaptedPerson(person), null, null);
+    }
+
+    /**
+     * Returns an entry that replaces the person named {@code target} with {@code person}.
+     */
+    public static JsonAdaptedJournalEntry set(Person target, Person person) {
+        return new JsonAdaptedJournalEntry(OP_SET, target.getName().fullName, new JsonAdaptedPerson(person),
+                null, null);
+    }
+
+    /**
+     * Returns an entry that removes the person named {@code target}.
+     */
+    public static JsonAdaptedJournalEntry remove(Person target) {
+        return new JsonAdaptedJournalEntry(OP_REMOVE, target.getName().fullName, null, null, null);
+    }
+
+    public String getOp() {
+        return op;
+    }
+
+    /**
+     * Returns the name of the person this entry changes.
+     *
+     * @throws IllegalValueException if the entry has no target.
+     */
+    public String getTarget() throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        return target;
+    }
+
+    /**
+     * Converts the person recorded in this entry into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if the entry has no person, or the person violates any data constraints.
+     */
+    public Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+    /**
+     * Returns true if this is a header entry for a snapshot file of the given size and modification time.
+     */
+    public boolean isSnapshotOf(long size, long modified) {
+        return OP_SNAPSHOT.equals(op) && snapshotSize != null && snapshotSize == size
+                && snapshotModified != null && snapshotModified == modified;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -72,57 +73,12 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
-
-        if (name == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
-        }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
-
-        if (phone == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
-        }
-        if (!Phone.isValidSlot(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
-
-        if (email == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
-        }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
-
-        if (nusnetid == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    Nusnetid.class.getSimpleName()));
-        }
-        if (!Nusnetid.isValidNusnetid(nusnetid)) {
-            throw new IllegalValueException(Nusnetid.MESSAGE_CONSTRAINTS);
-        }
-        final Nusnetid modelNusnetid = new Nusnetid(nusnetid);
-
-        if (slot == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    Slot.class.getSimpleName()));
-        }
-        if (!Slot.isValidSlot(slot)) {
-            throw new IllegalValueException(Slot.MESSAGE_CONSTRAINTS);
-        }
-        final Slot modelSlot = new Slot(slot);
-
-        if (telegram == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    Telegram.class.getSimpleName()));
-        }
-        if (!Telegram.isValidTelegram(telegram)) {
-            throw new IllegalValueException(Telegram.MESSAGE_CONSTRAINTS);
-        }
-        final Telegram modelTelegram = new Telegram(telegram);
+        final Name modelName = toModelField(name, Name.class, Name::new);
+        final Phone modelPhone = toModelField(phone, Phone.class, Phone::new);
+        final Email modelEmail = toModelField(email, Email.class, Email::new);
+        final Nusnetid modelNusnetid = toModelField(nusnetid, Nusnetid.class, Nusnetid::new);
+        final Slot modelSlot = toModelField(slot, Slot.class, Slot::of);
+        final Telegram modelTelegram = toModelField(telegram, Telegram.class, Telegram::new);
 
         Map<Integer, Homework> homeworkMap = new HashMap<>();
         for (Map.Entry<Integer, JsonAdaptedHomework> entry : homework.entrySet()) {
@@ -135,4 +91,23 @@ class JsonAdaptedPerson {
                 modelHomeworkTracker);
     }
 
+    /**
+     * Converts a single field of this adapted person with {@code constructor}.
+     * The constructor validates its argument itself, so the value is only checked against the field's constraints
+     * once; a violation is reported with the field's constraint message as before.
+     *
+     * @throws IllegalValueException if {@code value} is missing or violates the constraints of {@code fieldClass}.
+     */
+    private static <T> T toModelField(String value, Class<T> fieldClass, Function<String, T> constructor)
+            throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldClass.getSimpleName()));
+        }
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
 }
@@ -3,28 +3,51 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Persons are streamed to and from the file one at a time, so the whole document is never held in memory as text.
+ * The file is replaced atomically when saved, and the previous versions are kept as backups.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    public static final int DEFAULT_BACKUP_COUNT = 3;
+
+    /** Files of at least this many bytes are memory-mapped when read. */
+    static final long MAPPED_READ_THRESHOLD = 1 << 20;
+
     private Path filePath;
+    private final int backupCount;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that keeps {@code backupCount} backups of the previous versions of the
+     * data file whenever it is saved.
+     */
+    public JsonAddressBookStorage(Path filePath, int backupCount) {
         this.filePath = filePath;
+        this.backupCount = backupCount;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,20 +68,42 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(readFrom(openForReading(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Opens {@code filePath} for reading. Large files are memory-mapped, so that loading them needs little more heap
+     * than the address book itself.
+     */
+    private static InputStream openForReading(Path filePath) throws IOException {
+        if (Files.size(filePath) >= MAPPED_READ_THRESHOLD && FileUtil.canMapFile(filePath)) {
+            return FileUtil.newMappedInputStream(filePath);
+        }
+        return Files.newInputStream(filePath);
+    }
+
+    /**
+     * Reads an address book from {@code in}, closing it afterwards.
+     */
+    static AddressBook readFrom(InputStream in) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createJsonParser(in)) {
+            return JsonSerializableAddressBook.readFrom(parser);
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,7 +118,10 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+                JsonSerializableAddressBook.writeTo(addressBook, generator);
+            }
+        }, backupCount);
     }
 }
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,10 +8,16 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,15 +27,26 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_MISSING_PERSONS = "Address book's persons field is missing!";
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String ASSIGNMENTS_FIELD = "assignments";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
+    /** The assignments, or null if the file does not define them and the default assignments apply. */
+    private final List<JsonAdaptedAssignment> assignments;
+
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and assignments.
+     * Address books saved before assignments could be defined have no assignments field; they get the default
+     * assignments.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("assignments") List<JsonAdaptedAssignment> assignments) {
         this.persons.addAll(persons);
+        this.assignments = assignments;
     }
 
     /**
@@ -38,23 +56,115 @@ class JsonSerializableAddressBook {
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        assignments = source.getAssignmentList().stream().map(JsonAdaptedAssignment::new)
+                .collect(Collectors.toList());
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, listing the invalid rows.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        AdaptedPersonLoader loader = new AdaptedPersonLoader();
+        loader.addAll(persons);
+        AddressBook addressBook = loader.finish();
+        setAssignments(addressBook, assignments);
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, one person at a time,
+     * without building the whole document in memory.
+     */
+    public static void writeTo(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(PERSONS_FIELD);
+        generator.writeStartArray();
+        for (Person person : source.getPersonList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeFieldName(ASSIGNMENTS_FIELD);
+        generator.writeStartArray();
+        for (Assignment assignment : source.getAssignmentList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedAssignment(assignment));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code parser}, converting the persons into the model's
+     * {@code Person} in batches as they are read, without holding the whole document in memory.
+     *
+     * @throws IOException if the input is not a valid JSON address book.
+     * @throws IllegalValueException if there were any data constraints violated, listing the invalid rows.
+     */
+    public static AddressBook readFrom(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        AdaptedPersonLoader loader = new AdaptedPersonLoader();
+        List<JsonAdaptedAssignment> assignments = null;
+        boolean hasPersons = false;
+        while (nextToken(parser) == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = nextToken(parser);
+            if (value != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+            } else if (PERSONS_FIELD.equals(fieldName)) {
+                hasPersons = true;
+                while (nextToken(parser) != JsonToken.END_ARRAY) {
+                    loader.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+                }
+            } else if (ASSIGNMENTS_FIELD.equals(fieldName)) {
+                assignments = new ArrayList<>();
+                while (nextToken(parser) != JsonToken.END_ARRAY) {
+                    assignments.add(JsonUtil.readValue(parser, JsonAdaptedAssignment.class));
+                }
+            } else {
+                parser.skipChildren();
             }
-            addressBook.addPerson(person);
         }
+
+        if (!hasPersons) {
+            throw new IllegalValueException(MESSAGE_MISSING_PERSONS);
+        }
+        AddressBook addressBook = loader.finish();
+        setAssignments(addressBook, assignments);
         return addressBook;
     }
 
+    /**
+     * Replaces the assignments of {@code addressBook} with {@code assignments}, unless they are null.
+     *
+     * @throws IllegalValueException if an assignment is invalid or two assignments have the same ID.
+     */
+    private static void setAssignments(AddressBook addressBook, List<JsonAdaptedAssignment> assignments)
+            throws IllegalValueException {
+        if (assignments == null) {
+            return;
+        }
+
+        List<Assignment> modelAssignments = new ArrayList<>(assignments.size());
+        for (JsonAdaptedAssignment assignment : assignments) {
+            modelAssignments.add(assignment.toModelType());
+        }
+        try {
+            addressBook.setAssignments(modelAssignments);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static JsonToken nextToken(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonParseException(parser, "Unexpected end of address book");
+        }
+        return token;
+    }
+
 }
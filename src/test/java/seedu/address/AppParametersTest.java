@@ -39,10 +39,54 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("run", "script.txt");
+        expected.setScriptPath(Paths.get("script.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_success() {
+        parametersStub.namedParameters.put("run", "a\0");
+        expected.setScriptPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(Paths.get("script.txt"));
+        assertEquals(expected, AppParameters.parse("--config=config.json", "unnamed", "--run=script.txt"));
+
+        // headless flag
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse("--config=config.json", AppParameters.HEADLESS_FLAG,
+                "--run=script.txt"));
+
+        // no named parameters
+        assertEquals(new AppParameters(), AppParameters.parse());
+        assertEquals(new AppParameters(), AppParameters.parse("--run", "run=script.txt", "--=script.txt"));
+    }
+
+    @Test
+    public void isHeadless() {
+        AppParameters appParameters = new AppParameters();
+        assertFalse(appParameters.isHeadless());
+
+        // script to run -> returns true
+        appParameters.setScriptPath(Paths.get("script.txt"));
+        assertTrue(appParameters.isHeadless());
+
+        // headless flag -> returns true
+        assertTrue(AppParameters.parse(AppParameters.HEADLESS_FLAG).isHeadless());
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath() + ", isHeadless=false}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +110,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("script.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different headless flag -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setHeadless(true);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -0,0 +1,150 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonUtil;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final AppParameters appParameters = AppParameters.parse(AppParameters.HEADLESS_FLAG);
+    private Path configFilePath;
+    private Path prefsFilePath;
+    private Path addressBookFilePath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        configFilePath = tempDir.resolve("config.json");
+        prefsFilePath = tempDir.resolve("preferences.json");
+        addressBookFilePath = tempDir.resolve("addressbook.json");
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(prefsFilePath);
+        ConfigUtil.saveConfig(config, configFilePath);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+        new JsonUserPrefsStorage(prefsFilePath).saveUserPrefs(userPrefs);
+
+        appParameters.setConfigPath(configFilePath);
+    }
+
+    @Test
+    public void run_commandsFromInput_commandsRunAndSaved() throws Exception {
+        new JsonAddressBookStorage(addressBookFilePath).saveAddressBook(getTypicalAddressBook());
+
+        int exitStatus = run("# add a new student", PersonUtil.getAddCommand(AMY), "", ListCommand.COMMAND_WORD);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitStatus);
+        assertTrue(getOutput().contains(ListCommand.MESSAGE_SUCCESS));
+        ReadOnlyAddressBook savedAddressBook = readAddressBook();
+        assertTrue(savedAddressBook.getPersonList().contains(ALICE));
+        assertTrue(savedAddressBook.getPersonList().contains(AMY));
+    }
+
+    @Test
+    public void run_missingDataFile_startsWithEmptyAddressBook() throws Exception {
+        int exitStatus = run(PersonUtil.getAddCommand(AMY));
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitStatus);
+        assertEquals(new AddressBookBuilder().withPerson(AMY).build(), new AddressBook(readAddressBook()));
+    }
+
+    @Test
+    public void run_failingCommand_failureStatus() throws Exception {
+        int exitStatus = run("unknownCommand", PersonUtil.getAddCommand(AMY));
+
+        assertEquals(HeadlessApp.EXIT_FAILURE, exitStatus);
+        assertTrue(getOutput().contains(MESSAGE_UNKNOWN_COMMAND));
+        // the commands after a failing command are still run
+        assertTrue(readAddressBook().getPersonList().contains(AMY));
+    }
+
+    @Test
+    public void run_exitCommand_remainingInputIgnored() throws Exception {
+        int exitStatus = run(ExitCommand.COMMAND_WORD, PersonUtil.getAddCommand(AMY));
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitStatus);
+        assertFalse(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void run_configAndPrefsFiles_notRewritten() throws Exception {
+        String config = Files.readString(configFilePath);
+        Files.writeString(prefsFilePath, "{ \"addressBookFilePath\" : \""
+                + addressBookFilePath.toUri() + "\" }");
+        String prefs = Files.readString(prefsFilePath);
+
+        run(ListCommand.COMMAND_WORD);
+
+        assertEquals(config, Files.readString(configFilePath));
+        assertEquals(prefs, Files.readString(prefsFilePath));
+    }
+
+    @Test
+    public void run_script_scriptRunAndSaved() throws Exception {
+        Path scriptPath = tempDir.resolve("script.txt");
+        Files.write(scriptPath, Arrays.asList(PersonUtil.getAddCommand(AMY), "unknownCommand"));
+        appParameters.setScriptPath(scriptPath);
+
+        int exitStatus = run();
+
+        assertEquals(HeadlessApp.EXIT_FAILURE, exitStatus);
+        assertTrue(getOutput().contains("1 succeeded, 1 failed"));
+        assertTrue(readAddressBook().getPersonList().contains(AMY));
+    }
+
+    @Test
+    public void run_missingScript_failureStatus() {
+        appParameters.setScriptPath(tempDir.resolve("missing.txt"));
+        assertEquals(HeadlessApp.EXIT_FAILURE, run());
+    }
+
+    private int run(String... inputLines) {
+        InputStream input = new ByteArrayInputStream(
+                String.join(System.lineSeparator(), inputLines).getBytes(StandardCharsets.UTF_8));
+        return HeadlessApp.run(appParameters, input, new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    private String getOutput() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private ReadOnlyAddressBook readAddressBook() throws Exception {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(addressBookFilePath))
+                .readAddressBook().get();
+    }
+}
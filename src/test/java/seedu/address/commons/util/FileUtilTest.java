@@ -1,13 +1,28 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +35,82 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectories_fileCreated() throws Exception {
+        Path file = testFolder.resolve("sub").resolve("dir").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+
+        FileUtil.writeToFile(file, "new");
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertOnlyFiles(file.getParent(), 1);
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_originalContentKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("disk full");
+        }, 2));
+
+        assertEquals("original", FileUtil.readFromFile(file));
+        assertOnlyFiles(testFolder, 1);
+    }
+
+    @Test
+    public void writeToFile_existingFile_permissionsKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "original");
+        if (!Files.getFileStore(file).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            return;
+        }
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r--r--");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFile(file, "new");
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_backups_rotated() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        for (int version = 1; version <= 4; version++) {
+            String content = "version " + version;
+            FileUtil.writeToFileAtomically(file, out -> {
+                out.write(content.getBytes());
+                out.close();
+            }, 2);
+        }
+
+        assertEquals("version 4", FileUtil.readFromFile(file));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 2)));
+        assertOnlyFiles(testFolder, 3);
+    }
+
+    @Test
+    public void newMappedInputStream_readsWholeFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "mapped content");
+        assertTrue(FileUtil.canMapFile(file) || System.getProperty("os.name").startsWith("Windows"));
+
+        try (InputStream in = FileUtil.newMappedInputStream(file)) {
+            assertEquals('m', in.read());
+            byte[] rest = new byte[32];
+            int count = in.read(rest, 0, rest.length);
+            assertEquals("apped content", new String(rest, 0, count));
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(rest, 0, rest.length));
+        }
+    }
+
+    private void assertOnlyFiles(Path folder, long expectedCount) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            assertEquals(expectedCount, files.count());
+        }
+    }
+
 }
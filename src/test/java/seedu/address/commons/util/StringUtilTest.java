@@ -1,10 +1,14 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -121,6 +125,70 @@ public class StringUtilTest {
 
         // Matches multiple words in sentence
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
+
+        // Words separated by other ASCII whitespace
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbbb\nccc", "bbb"));
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\u000Bbbb\f\rccc", "CCC"));
+
+        // Other Unicode whitespace is part of a word
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\u00A0bbb", "bbb"));
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\u2003bbb ccc", "AAA\u2003BBB"));
+
+        // Control characters are trimmed from the word, but separate nothing in the sentence
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa bbb", "\u0001bbb\u0000"));
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\u0001bbb", "bbb"));
+    }
+
+    @Test
+    public void containsWordIgnoreCase_randomInputs_sameResultAsSplittingWithRegex() {
+        Random random = new Random(21);
+        String characters = "aAbB \t\n\u00A0\u2003\u0001\u00DF\u0130i";
+        for (int i = 0; i < 5000; i++) {
+            String sentence = randomString(random, characters, 12);
+            String word = randomString(random, characters, 4);
+            String preppedWord = word.trim();
+            if (preppedWord.isEmpty() || preppedWord.split("\\s+").length != 1) {
+                assertThrows(IllegalArgumentException.class, () -> StringUtil.containsWordIgnoreCase(sentence, word));
+                continue;
+            }
+            boolean isExpected = Arrays.stream(sentence.split("\\s+")).anyMatch(preppedWord::equalsIgnoreCase);
+            assertEquals(isExpected, StringUtil.containsWordIgnoreCase(sentence, word), sentence + " / " + word);
+        }
+    }
+
+    private static String randomString(Random random, String characters, int maxLength) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = random.nextInt(maxLength + 1); i > 0; i--) {
+            builder.append(characters.charAt(random.nextInt(characters.length())));
+        }
+        return builder.toString();
+    }
+
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_alreadyFolded_returnsSameInstance() {
+        String folded = "abc 123";
+        assertSame(folded, StringUtil.foldCase(folded));
+    }
+
+    @Test
+    public void foldCase_mixedCase_foldsEveryCharacter() {
+        assertEquals("alice pauline", StringUtil.foldCase("aLICE Pauline"));
+    }
+
+    @Test
+    public void foldCase_agreesWithEqualsIgnoreCase() {
+        String[][] pairs = {{"Straße", "STRASSE"}, {"\u0130", "i"}, {"\u03a3", "\u03c2"}, {"Kelvin", "\u212aelvin"}};
+        for (String[] pair : pairs) {
+            assertEquals(pair[0].equalsIgnoreCase(pair[1]),
+                    StringUtil.foldCase(pair[0]).equals(StringUtil.foldCase(pair[1])));
+        }
     }
 
     //---------------- Tests for getDetails --------------------------------------
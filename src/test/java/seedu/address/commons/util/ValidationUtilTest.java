@@ -0,0 +1,60 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Slot;
+
+public class ValidationUtilTest {
+
+    private static final String[] CANDIDATES = {"", " ", "T", "E", "T1", "T01", "t1", "T1a", "TT1", " T1", "T1 ",
+        "E1234567", "E123456", "E12345678", "e1234567", "E123456a", "E\uff11\uff12\uff13\uff14\uff15\uff16\uff17",
+        "12", "123", "0000", "12 3", "123a", "-123", "\u0661\u0662\u0663", "\uff11\uff12\uff13", "T\u0661",
+        "9" + "1".repeat(50)};
+
+    @Test
+    public void isDigits_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 1));
+    }
+
+    @Test
+    public void isDigits() {
+        assertTrue(ValidationUtil.isDigits("", 0));
+        assertTrue(ValidationUtil.isDigits("0123456789", 10));
+        assertFalse(ValidationUtil.isDigits("0123456789", 11));
+        assertFalse(ValidationUtil.isDigits("12a", 1));
+        assertFalse(ValidationUtil.isDigits("/:", 1)); // the characters either side of the ASCII digits
+        assertFalse(ValidationUtil.isDigits("\uff11\uff12\uff13", 1)); // fullwidth digits
+    }
+
+    @Test
+    public void isPrefixedDigits_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isPrefixedDigits(null, "T", 1, 1));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isPrefixedDigits("T1", null, 1, 1));
+    }
+
+    @Test
+    public void isPrefixedDigits() {
+        assertTrue(ValidationUtil.isPrefixedDigits("T1", "T", 1, 1));
+        assertTrue(ValidationUtil.isPrefixedDigits("AB", "AB", 0, 0));
+        assertFalse(ValidationUtil.isPrefixedDigits("T12", "T", 1, 1));
+        assertFalse(ValidationUtil.isPrefixedDigits("T", "T", 1, 1));
+        assertFalse(ValidationUtil.isPrefixedDigits("X1", "T", 1, 1));
+    }
+
+    @Test
+    public void fastPaths_agreeWithValidationRegexes() {
+        for (String candidate : CANDIDATES) {
+            assertEquals(candidate.matches(Phone.VALIDATION_REGEX), Phone.isValidSlot(candidate), candidate);
+            assertEquals(candidate.matches(Slot.VALIDATION_REGEX), Slot.isValidSlot(candidate), candidate);
+            assertEquals(candidate.matches(Nusnetid.VALIDATION_REGEX), Nusnetid.isValidNusnetid(candidate),
+                    candidate);
+        }
+    }
+}
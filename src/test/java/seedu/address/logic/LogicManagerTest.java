@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -14,7 +16,10 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -73,17 +78,78 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsSaveError() throws Exception {
+        assertSaveErrorForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveError() throws Exception {
+        assertSaveErrorForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void markAddressBookSaved_dataUnchanged_saveSkipped() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+
+        logicManager.markAddressBookSaved();
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.flushPendingSaves();
+        assertEquals(1, logicManager.getSkippedSaveCount());
+        assertFalse(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void execute_dataUnchangedSinceSave_saveSkipped() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.flushPendingSaves();
+        assertEquals(0, logicManager.getSkippedSaveCount());
+        assertTrue(Files.exists(addressBookPath));
+
+        Files.delete(addressBookPath);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.flushPendingSaves();
+        assertEquals(1, logicManager.getSkippedSaveCount());
+        assertFalse(Files.exists(addressBookPath));
+
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + NUSNETID_DESC_AMY + TELEGRAM_DESC_AMY + SLOT_DESC_AMY);
+        logicManager.flushPendingSaves();
+        assertEquals(1, logicManager.getSkippedSaveCount());
+        assertTrue(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void execute_previousSaveFailed_saveRetried() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        boolean[] shouldFail = {true};
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (shouldFail[0]) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        LogicManager logicManager = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.flushPendingSaves();
+
+        shouldFail[0] = false;
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.flushPendingSaves();
+        assertEquals(0, logicManager.getSkippedSaveCount());
+        assertTrue(Files.exists(addressBookPath));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -144,11 +210,12 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command itself succeeds, and the error is reported to the save error handler once the save is attempted.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveErrorForExceptionFromStorage(IOException e, String expectedMessage) throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -165,6 +232,8 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> reportedErrors = new CopyOnWriteArrayList<>();
+        logic.setSaveErrorHandler(reportedErrors::add);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -172,6 +241,10 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                expectedModel);
+
+        logic.flushPendingSaves();
+        assertEquals(List.of(expectedMessage), reportedErrors);
     }
 }
@@ -6,8 +6,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -41,7 +44,7 @@ public class AddHomeworkCommandTest {
     @Test
     public void execute_addHomeworkToAll_success() throws Exception {
         AddHomeworkCommand command = new AddHomeworkCommand("all", 2);
-        String expectedMessage = String.format(AddHomeworkCommand.MESSAGE_SUCCESS_ALL, 2);
+        String expectedMessage = String.format(AddHomeworkCommand.MESSAGE_SUCCESS_ALL, 2, 2);
         assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
 
         // all students should have homework 2
@@ -51,6 +54,32 @@ public class AddHomeworkCommandTest {
         }
     }
 
+    @Test
+    public void execute_addHomeworkToAllTwice_reportsOnlyModifiedStudents() throws Exception {
+        new AddHomeworkCommand("E1234567", 2).execute(model);
+
+        AddHomeworkCommand command = new AddHomeworkCommand("all", 2);
+        String expectedMessage = String.format(AddHomeworkCommand.MESSAGE_SUCCESS_ALL, 2, 1);
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_definedAssignment_success() throws Exception {
+        model.setAssignment(new Assignment(13, "Problem Set 13", null));
+        new AddHomeworkCommand("all", 13).execute(model);
+
+        for (Person p : model.getFilteredPersonList()) {
+            assertEquals("incomplete", p.getHomeworkTracker().getStatus(13));
+        }
+    }
+
+    @Test
+    public void execute_assignmentNotDefined_throwsCommandException() {
+        AddHomeworkCommand command = new AddHomeworkCommand("all", 4);
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_UNDEFINED_ASSIGNMENT, 4), () ->
+                command.execute(model));
+    }
+
     @Test
     public void execute_studentNotFound_throwsCommandException() {
         AddHomeworkCommand command = new AddHomeworkCommand("E0000000", 1);
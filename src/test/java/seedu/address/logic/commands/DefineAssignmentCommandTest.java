@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.assignment.Assignment;
+
+public class DefineAssignmentCommandTest {
+
+    private static final Assignment PROBLEM_SET = new Assignment(4, "Problem Set 4", LocalDate.of(2026, 2, 6));
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullAssignment_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DefineAssignmentCommand(null));
+    }
+
+    @Test
+    public void execute_newAssignment_defined() {
+        expectedModel.setAssignment(PROBLEM_SET);
+        assertCommandSuccess(new DefineAssignmentCommand(PROBLEM_SET), model,
+                String.format(DefineAssignmentCommand.MESSAGE_SUCCESS, 4, "Problem Set 4"), expectedModel);
+        assertTrue(model.hasAssignment(4));
+    }
+
+    @Test
+    public void execute_existingAssignment_updated() {
+        Assignment renamed = new Assignment(1, "Warm-up", null);
+        expectedModel.setAssignment(renamed);
+        assertCommandSuccess(new DefineAssignmentCommand(renamed), model,
+                String.format(DefineAssignmentCommand.MESSAGE_UPDATED, 1, "Warm-up"), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        DefineAssignmentCommand command = new DefineAssignmentCommand(PROBLEM_SET);
+
+        // same values -> returns true
+        assertTrue(command.equals(new DefineAssignmentCommand(new Assignment(4, "Problem Set 4",
+                LocalDate.of(2026, 2, 6)))));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different assignment -> returns false
+        assertFalse(command.equals(new DefineAssignmentCommand(new Assignment(4, "Problem Set 4", null))));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null));
+    }
+
+    @Test
+    public void execute_validFilePath_addressBookExported() throws Exception {
+        Path filePath = testFolder.resolve("export").resolve("addressbook.json");
+        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS,
+                model.getAddressBook().getPersonList().size(), filePath);
+
+        assertCommandSuccess(new ExportCommand(filePath), model, expectedMessage, expectedModel);
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void execute_binaryData_exportedLosslessly() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        Model binaryModel = new ModelManager(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get(),
+                new UserPrefs());
+        new ExportCommand(exportedFilePath).execute(binaryModel);
+
+        assertEquals(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get(),
+                new JsonAddressBookStorage(exportedFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void execute_unwritableFilePath_throwsCommandException() {
+        // the temporary folder is a directory, so it cannot be replaced by the exported file
+        assertThrows(CommandException.class, () -> new ExportCommand(testFolder).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportFirstCommand = new ExportCommand(Paths.get("first.json"));
+        ExportCommand exportSecondCommand = new ExportCommand(Paths.get("second.json"));
+
+        // same object -> returns true
+        assertTrue(exportFirstCommand.equals(exportFirstCommand));
+
+        // same values -> returns true
+        assertTrue(exportFirstCommand.equals(new ExportCommand(Paths.get("first.json"))));
+
+        // different types -> returns false
+        assertFalse(exportFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportFirstCommand.equals(null));
+
+        // different file path -> returns false
+        assertFalse(exportFirstCommand.equals(exportSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("export.json");
+        String expected = ExportCommand.class.getCanonicalName() + "{filePath=" + filePath + "}";
+        assertEquals(expected, new ExportCommand(filePath).toString());
+    }
+}
@@ -4,21 +4,35 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.person.HomeworkTracker;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.PersonQuery;
+import seedu.address.model.search.SearchField;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -69,16 +83,99 @@ public class FindCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
         NameContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
         FindCommand command = new FindCommand(predicate);
-        expectedModel.updateFilteredPersonList(predicate);
+        // Carl Kurz and Fiona Kunz also match the other surname with one typo, so they rank above Elle Meyer
+        List<Person> expectedList = Arrays.asList(CARL, FIONA, ELLE);
+        expectedModel.updateFilteredPersonList(predicate, Comparator.comparingInt(expectedList::indexOf));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
+        assertEquals(expectedList, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_prefixAndTypo_personsFound() {
+        new FindCommand(preparePredicate("Kur Pualine")).execute(model);
+        assertEquals(Arrays.asList(CARL, ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_otherFields_personsFound() {
+        new FindCommand(preparePredicate("@benson E1234569 werner T12")).execute(model);
+        assertEquals(Arrays.asList(BENSON, CARL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_moreKeywordsMatched_rankedFirst() {
+        new FindCommand(preparePredicate("Carl Fiona Kunz")).execute(model);
+        assertEquals(Arrays.asList(FIONA, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personsEditedAfterFind_filterFollowsNames() {
+        new FindCommand(preparePredicate("Kurz Elle Kunz")).execute(model);
+        Person editedCarl = new PersonBuilder(CARL).withPhone(VALID_PHONE_AMY).build();
+        Person editedElle = new PersonBuilder(ELLE).withName(VALID_NAME_AMY).build();
+        model.setPerson(CARL, editedCarl);
+        model.setPerson(ELLE, editedElle);
+        assertEquals(Arrays.asList(editedCarl, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personAddedAfterFind_personShown() throws Exception {
+        new FindCommand(preparePredicate("Amy")).execute(model);
+        Person amy = new PersonBuilder().withName(VALID_NAME_AMY).build();
+        new AddCommand(amy).execute(model);
+        assertTrue(model.getFilteredPersonList().contains(amy));
+    }
+
+    @Test
+    public void execute_personRenamedAfterFind_filterRunAgain() {
+        new FindCommand(preparePredicate("Amy Pauline")).execute(model);
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName(VALID_NAME_AMY).build();
+        model.setPerson(BENSON, renamedBenson);
+        assertEquals(Arrays.asList(ALICE, renamedBenson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fieldClauses_personsFound() {
+        new FindCommand(PersonQuery.field(SearchField.SLOT, "T12", false)).execute(model);
+        assertEquals(Collections.singletonList(FIONA), model.getFilteredPersonList());
+
+        new FindCommand(PersonQuery.field(SearchField.NUSNETID, "E123456", true)).execute(model);
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_booleanQuery_personsFound() {
+        // Meier AND NOT (s/T02 OR p/948*), where Meier also matches Elle Meyer with one typo
+        PersonQuery query = PersonQuery.and(Arrays.asList(PersonQuery.keywords(Collections.singletonList("Meier")),
+                PersonQuery.not(PersonQuery.or(Arrays.asList(PersonQuery.field(SearchField.SLOT, "T02", false),
+                        PersonQuery.phone("948", true))))));
+        new FindCommand(query).execute(model);
+        assertEquals(Collections.singletonList(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_homeworkClause_personsFound() {
+        Person lateBenson = new PersonBuilder(BENSON).withHomeworkTracker(
+                new HomeworkTracker().addHomework(1).updateStatus(1, "late")).build();
+        Person incompleteCarl = new PersonBuilder(CARL).withAddedHomework(1).build();
+        model.setPerson(BENSON, lateBenson);
+        model.setPerson(CARL, incompleteCarl);
+
+        new FindCommand(PersonQuery.homework(1, HomeworkStatus.LATE)).execute(model);
+        assertEquals(Collections.singletonList(lateBenson), model.getFilteredPersonList());
+
+        new FindCommand(PersonQuery.homework(1, HomeworkStatus.INCOMPLETE)).execute(model);
+        assertEquals(Collections.singletonList(incompleteCarl), model.getFilteredPersonList());
     }
 
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{query="
+                + PersonQuery.keywords(predicate.getKeywords()) + "}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -6,6 +6,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.person.Person;
@@ -56,6 +58,16 @@ public class MarkHomeworkCommandTest {
         assertEquals("late", updatedBob.getHomeworkTracker().getStatus(1));
     }
 
+    @Test
+    public void execute_studentHiddenByFilter_success() throws Exception {
+        model.updateFilteredPersonList(person -> person.getName().fullName.equals("Bob"));
+        MarkHomeworkCommand command = new MarkHomeworkCommand("e1234567", 1, "complete");
+        command.execute(model);
+
+        Person updatedAlice = model.getPersonByNusnetid("E1234567").orElseThrow();
+        assertEquals("complete", updatedAlice.getHomeworkTracker().getStatus(1));
+    }
+
     @Test
     public void execute_markHomeworkNotAdded_throwsCommandException() {
         // Homework 2 is not added yet
@@ -63,6 +75,13 @@ public class MarkHomeworkCommandTest {
         assertThrows(Exception.class, () -> command.execute(model));
     }
 
+    @Test
+    public void execute_assignmentNotDefined_throwsCommandException() {
+        MarkHomeworkCommand command = new MarkHomeworkCommand("E1234567", 4, "complete");
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_UNDEFINED_ASSIGNMENT, 4), () ->
+                command.execute(model));
+    }
+
     @Test
     public void execute_invalidStatus_throwsCommandException() {
         // Invalid status
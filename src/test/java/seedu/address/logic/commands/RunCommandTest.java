@@ -0,0 +1,148 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonUtil;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunCommand(null, parser));
+        assertThrows(NullPointerException.class, () -> new RunCommand(Paths.get("script.txt"), null));
+    }
+
+    @Test
+    public void execute_validScript_commandsApplied() throws Exception {
+        Path script = writeScript(
+                "# add the new students",
+                PersonUtil.getAddCommand(AMY),
+                "",
+                "   " + PersonUtil.getAddCommand(BOB));
+
+        RunCommand.ScriptResult result = new RunCommand(script, parser).execute(model);
+
+        assertEquals(2, result.getCommandCount());
+        assertTrue(result.getFailures().isEmpty());
+        assertTrue(result.getFeedbackToUser().contains("2 succeeded, 0 failed"));
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(model.hasPerson(BOB));
+    }
+
+    @Test
+    public void execute_failingCommands_reportedAndSkipped() throws Exception {
+        Path script = writeScript(
+                PersonUtil.getAddCommand(AMY),
+                "unknownCommand",
+                PersonUtil.getAddCommand(ALICE),
+                RunCommand.COMMAND_WORD + " other.txt");
+
+        RunCommand.ScriptResult result = new RunCommand(script, parser).execute(model);
+
+        assertEquals(4, result.getCommandCount());
+        assertEquals(Arrays.asList(
+                String.format(RunCommand.MESSAGE_FAILURE, 2, MESSAGE_UNKNOWN_COMMAND),
+                String.format(RunCommand.MESSAGE_FAILURE, 3, AddCommand.MESSAGE_DUPLICATE_PERSON),
+                String.format(RunCommand.MESSAGE_FAILURE, 4, RunCommand.MESSAGE_NESTED_RUN)),
+                result.getFailures());
+        assertTrue(result.getFeedbackToUser().contains("1 succeeded, 3 failed"));
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void execute_manyFailures_reportTruncated() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < RunCommand.MAX_REPORTED_FAILURES + 5; i++) {
+            lines.add("unknownCommand");
+        }
+        Path script = writeScript(lines.toArray(new String[0]));
+
+        RunCommand.ScriptResult result = new RunCommand(script, parser).execute(model);
+
+        assertEquals(RunCommand.MAX_REPORTED_FAILURES + 5, result.getFailures().size());
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(RunCommand.MESSAGE_MORE_FAILURES, 5)));
+    }
+
+    @Test
+    public void execute_noChanges_addressBookNotReplaced() throws Exception {
+        Path script = writeScript(ListCommand.COMMAND_WORD, "unknownCommand");
+        long version = model.getAddressBookVersion();
+
+        new RunCommand(script, parser).execute(model);
+
+        assertEquals(version, model.getAddressBookVersion());
+        assertEquals(new AddressBook(getTypicalAddressBook()), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        Path missingScript = testFolder.resolve("missing.txt");
+        assertThrows(CommandException.class, () -> new RunCommand(missingScript, parser).execute(model));
+        assertEquals(new AddressBook(getTypicalAddressBook()), model.getAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runFirstCommand = new RunCommand(Paths.get("first.txt"), parser);
+        RunCommand runSecondCommand = new RunCommand(Paths.get("second.txt"), parser);
+
+        // same object -> returns true
+        assertTrue(runFirstCommand.equals(runFirstCommand));
+
+        // same values -> returns true
+        assertTrue(runFirstCommand.equals(new RunCommand(Paths.get("first.txt"), new AddressBookParser())));
+
+        // different types -> returns false
+        assertFalse(runFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirstCommand.equals(null));
+
+        // different script -> returns false
+        assertFalse(runFirstCommand.equals(runSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path script = Paths.get("script.txt");
+        RunCommand runCommand = new RunCommand(script, parser);
+        assertEquals(RunCommand.class.getCanonicalName() + "{scriptPath=" + script + "}", runCommand.toString());
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, Arrays.asList(lines));
+        return script;
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddHomeworkCommand;
+import seedu.address.model.person.HomeworkTracker;
 
 public class AddHomeworkCommandParserTest {
 
@@ -30,8 +31,11 @@ public class AddHomeworkCommandParserTest {
 
     @Test
     public void parse_invalidAssignmentId_failure() {
-        assertParseFailure(parser, " i/" + VALID_NUSNETID_AMY + " a/10",
-                "Assignment id must be between 1 and 3.");
+        // ID out of allowed range
+        assertParseFailure(parser, " i/" + VALID_NUSNETID_AMY + " a/0",
+                ParserUtil.MESSAGE_INVALID_ASSIGNMENT_ID);
+        assertParseFailure(parser, " i/" + VALID_NUSNETID_AMY + " a/" + (HomeworkTracker.MAX_ASSIGNMENTS + 1),
+                ParserUtil.MESSAGE_INVALID_ASSIGNMENT_ID);
     }
 
     @Test
@@ -7,6 +7,7 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,14 +16,18 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DefineAssignmentCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -88,6 +93,25 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_defineAssignment() throws Exception {
+        DefineAssignmentCommand command = (DefineAssignmentCommand) parser.parseCommand(
+                DefineAssignmentCommand.COMMAND_WORD + " a/4 n/Problem Set 4");
+        assertEquals(new DefineAssignmentCommand(new Assignment(4, "Problem Set 4", null)), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " export.json");
+        assertEquals(new ExportCommand(Paths.get("export.json")), command);
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " script.txt");
+        assertEquals(new RunCommand(Paths.get("script.txt"), parser), command);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -98,4 +122,23 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_commandWordFollowedByTab_parsesArguments() throws Exception {
+        DeleteCommand command = (DeleteCommand) parser.parseCommand(
+                "  " + DeleteCommand.COMMAND_WORD + "\t" + INDEX_FIRST_PERSON.getOneBased() + "  ");
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), command);
+    }
+
+    @Test
+    public void parseCommand_registeredCommand_usesRegisteredParser() throws Exception {
+        CommandRegistry registry = AddressBookParser.createDefaultRegistry();
+        registry.register("ls", () -> arguments -> new ListCommand());
+        AddressBookParser customParser = new AddressBookParser(registry);
+
+        assertTrue(customParser.parseCommand("ls") instanceof ListCommand);
+        assertTrue(customParser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
+        // other parsers are unaffected
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("ls"));
+    }
 }
@@ -0,0 +1,62 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListCommand;
+
+public class CommandRegistryTest {
+
+    private final CommandRegistry registry = new CommandRegistry();
+
+    @Test
+    public void register_invalidCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.register("", ListCommandParser::new));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("list all", ListCommandParser::new));
+    }
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        registry.register("list", ListCommandParser::new);
+        assertThrows(IllegalArgumentException.class, () -> registry.register("list", ListCommandParser::new));
+    }
+
+    @Test
+    public void getParser_unregisteredCommandWord_returnsEmpty() {
+        registry.register("list", ListCommandParser::new);
+        assertFalse(registry.getParser("List").isPresent());
+        assertFalse(registry.getParser("lis").isPresent());
+    }
+
+    @Test
+    public void getParser_registeredCommandWord_parserCreatedOnceWhenFirstNeeded() {
+        AtomicInteger createdCount = new AtomicInteger();
+        registry.register("list", () -> {
+            createdCount.incrementAndGet();
+            return new ListCommandParser();
+        });
+        assertEquals(0, createdCount.get());
+
+        Parser<?> parser = registry.getParser("list").get();
+        assertSame(parser, registry.getParser("list").get());
+        assertEquals(1, createdCount.get());
+        assertEquals(Set.of("list"), registry.getCommandWords());
+    }
+
+    /**
+     * A parser that ignores its arguments.
+     */
+    private static class ListCommandParser implements Parser<ListCommand> {
+        @Override
+        public ListCommand parse(String userInput) {
+            return new ListCommand();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.DefineAssignmentCommand;
+import seedu.address.model.assignment.Assignment;
+
+public class DefineAssignmentCommandParserTest {
+
+    private DefineAssignmentCommandParser parser = new DefineAssignmentCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " a/4 n/ Problem Set 4 d/2026-02-06",
+                new DefineAssignmentCommand(new Assignment(4, "Problem Set 4", LocalDate.of(2026, 2, 6))));
+    }
+
+    @Test
+    public void parse_noDueDate_success() {
+        assertParseSuccess(parser, " a/13 n/Problem Set 13",
+                new DefineAssignmentCommand(new Assignment(13, "Problem Set 13", null)));
+    }
+
+    @Test
+    public void parse_missingFields_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DefineAssignmentCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " n/Problem Set 4", expectedMessage);
+        assertParseFailure(parser, " a/4", expectedMessage);
+        assertParseFailure(parser, " 4 a/4 n/Problem Set 4", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " a/0 n/Problem Set", ParserUtil.MESSAGE_INVALID_ASSIGNMENT_ID);
+        assertParseFailure(parser, " a/4 n/ ", Assignment.MESSAGE_TITLE_CONSTRAINTS);
+        assertParseFailure(parser, " a/4 n/Problem Set d/2026-02-30", ParserUtil.MESSAGE_INVALID_DUE_DATE);
+    }
+
+    @Test
+    public void parse_duplicateFields_failure() {
+        assertParseFailure(parser, " a/4 a/5 n/Problem Set",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_ASSIGNMENT));
+    }
+}
@@ -5,11 +5,15 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.HomeworkStatus;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.search.PersonQuery;
+import seedu.address.model.search.SearchField;
 
 public class FindCommandParserTest {
 
@@ -31,4 +35,63 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldClauses_returnsFindCommand() {
+        assertParseSuccess(parser, "s/T03", new FindCommand(PersonQuery.field(SearchField.SLOT, "T03", false)));
+        assertParseSuccess(parser, "i/E12*", new FindCommand(PersonQuery.field(SearchField.NUSNETID, "E12", true)));
+        assertParseSuccess(parser, "p/9123*", new FindCommand(PersonQuery.phone("9123", true)));
+        assertParseSuccess(parser, "hw/2:LATE", new FindCommand(PersonQuery.homework(2, HomeworkStatus.LATE)));
+
+        // adjacent clauses must all match, and adjacent keywords are searched together
+        assertParseSuccess(parser, "Alice Bob s/T03", new FindCommand(PersonQuery.and(Arrays.asList(
+                PersonQuery.keywords(Arrays.asList("Alice", "Bob")),
+                PersonQuery.field(SearchField.SLOT, "T03", false)))));
+    }
+
+    @Test
+    public void parse_homeworkStatusUnderTurkishLocale_returnsFindCommand() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // the dotted lowercase i of the Turkish locale must not change the status
+            Locale.setDefault(new Locale("tr"));
+            assertParseSuccess(parser, "hw/2:INCOMPLETE",
+                    new FindCommand(PersonQuery.homework(2, HomeworkStatus.INCOMPLETE)));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void parse_booleanOperators_returnsFindCommand() {
+        PersonQuery slotT03 = PersonQuery.field(SearchField.SLOT, "T03", false);
+        PersonQuery slotT04 = PersonQuery.field(SearchField.SLOT, "T04", false);
+        PersonQuery late = PersonQuery.homework(1, HomeworkStatus.LATE);
+
+        // AND binds tighter than OR
+        assertParseSuccess(parser, "s/T03 OR s/T04 AND hw/1:late", new FindCommand(PersonQuery.or(Arrays.asList(
+                slotT03, PersonQuery.and(Arrays.asList(slotT04, late))))));
+
+        // parentheses, with and without spaces
+        FindCommand expectedFindCommand = new FindCommand(PersonQuery.and(Arrays.asList(
+                PersonQuery.or(Arrays.asList(slotT03, slotT04)), PersonQuery.not(late))));
+        assertParseSuccess(parser, "(s/T03 OR s/T04) NOT hw/1:late", expectedFindCommand);
+        assertParseSuccess(parser, "( s/T03 OR s/T04 ) AND NOT hw/1:late", expectedFindCommand);
+        assertParseSuccess(parser, "((s/T03 OR s/T04)) NOT (hw/1:late)", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "s/", invalidFormat);
+        assertParseFailure(parser, "i/*", invalidFormat);
+        assertParseFailure(parser, "s/T03 OR", invalidFormat);
+        assertParseFailure(parser, "AND s/T03", invalidFormat);
+        assertParseFailure(parser, "(s/T03 OR s/T04", invalidFormat);
+        assertParseFailure(parser, "s/T03)", invalidFormat);
+        assertParseFailure(parser, "NOT", invalidFormat);
+        assertParseFailure(parser, "hw/2", invalidFormat);
+        assertParseFailure(parser, "hw/0:late", ParserUtil.MESSAGE_INVALID_ASSIGNMENT_ID);
+        assertParseFailure(parser, "hw/2:done", HomeworkStatus.MESSAGE_CONSTRAINTS);
+    }
+
 }
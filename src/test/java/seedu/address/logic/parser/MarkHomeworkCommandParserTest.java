@@ -9,6 +9,7 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.MarkHomeworkCommand;
+import seedu.address.model.person.HomeworkTracker;
 
 public class MarkHomeworkCommandParserTest {
 
@@ -24,8 +25,11 @@ public class MarkHomeworkCommandParserTest {
     @Test
     public void parse_invalidAssignmentId_failure() {
         // ID out of allowed range
-        assertParseFailure(parser, " i/" + VALID_NUSNETID_AMY + " a/10" + " status/complete",
-                "Assignment id must be between 1 and 3.");
+        assertParseFailure(parser, " i/" + VALID_NUSNETID_AMY + " a/0" + " status/complete",
+                ParserUtil.MESSAGE_INVALID_ASSIGNMENT_ID);
+        int tooLargeId = HomeworkTracker.MAX_ASSIGNMENTS + 1;
+        assertParseFailure(parser, " i/" + VALID_NUSNETID_AMY + " a/" + tooLargeId + " status/complete",
+                ParserUtil.MESSAGE_INVALID_ASSIGNMENT_ID);
     }
 
     @Test
@@ -6,17 +6,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NUSNETID_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -75,6 +79,125 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getVersion_dataChanged_versionChanges() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.setPerson(ALICE, BOB);
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(BOB);
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.setAssignment(new Assignment(4, "Problem Set 4", null));
+        assertTrue(addressBook.getVersion() != version);
+    }
+
+    @Test
+    public void getVersion_dataUnchanged_versionUnchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonByNusnetid(ALICE.getNusnetid().value);
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertEquals(0, addressBook.updatePersons(addressBook.getPersonList(), person -> person));
+
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getPersonByNusnetid_personInAddressBook_returnsPersonIgnoringCase() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), addressBook.getPersonByNusnetid(ALICE.getNusnetid().value));
+        assertEquals(Optional.of(ALICE), addressBook.getPersonByNusnetid(ALICE.getNusnetid().value.toLowerCase()));
+    }
+
+    @Test
+    public void getPersonByNusnetid_afterEditAndRemove_staysInSync() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withNusnetid(VALID_NUSNETID_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.empty(), addressBook.getPersonByNusnetid(ALICE.getNusnetid().value));
+        assertEquals(Optional.of(editedAlice), addressBook.getPersonByNusnetid(VALID_NUSNETID_BOB));
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(Optional.empty(), addressBook.getPersonByNusnetid(VALID_NUSNETID_BOB));
+    }
+
+    @Test
+    public void getPersonByNusnetid_sharedNusnetid_returnsRemainingPersonAfterRemoval() {
+        Person bob = new PersonBuilder(BOB).withNusnetid(ALICE.getNusnetid().value).build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(bob);
+        assertEquals(Optional.of(ALICE), addressBook.getPersonByNusnetid(ALICE.getNusnetid().value));
+
+        addressBook.removePerson(ALICE);
+        assertEquals(Optional.of(bob), addressBook.getPersonByNusnetid(ALICE.getNusnetid().value));
+    }
+
+    @Test
+    public void getPersonByNusnetid_afterResetData_usesNewData() {
+        addressBook.addPerson(ALICE);
+        AddressBook newData = new AddressBook();
+        newData.addPerson(BOB);
+        addressBook.resetData(newData);
+        assertEquals(Optional.empty(), addressBook.getPersonByNusnetid(ALICE.getNusnetid().value));
+        assertEquals(Optional.of(BOB), addressBook.getPersonByNusnetid(BOB.getNusnetid().value));
+    }
+
+    @Test
+    public void getAssignmentList_newAddressBook_returnsDefaultAssignments() {
+        assertEquals(Assignment.getDefaultAssignments(), addressBook.getAssignmentList());
+        assertTrue(addressBook.hasAssignment(Assignment.DEFAULT_ASSIGNMENT_COUNT));
+        assertFalse(addressBook.hasAssignment(Assignment.DEFAULT_ASSIGNMENT_COUNT + 1));
+    }
+
+    @Test
+    public void setAssignment_keepsAssignmentsOrderedById() {
+        Assignment last = new Assignment(13, "Problem Set 13", LocalDate.of(2026, 11, 20));
+        Assignment middle = new Assignment(5, "Problem Set 5", null);
+        Assignment replaced = new Assignment(1, "Warm-up", null);
+        addressBook.setAssignment(last);
+        addressBook.setAssignment(middle);
+        addressBook.setAssignment(replaced);
+
+        List<Assignment> defaults = Assignment.getDefaultAssignments();
+        assertEquals(List.of(replaced, defaults.get(1), defaults.get(2), middle, last),
+                addressBook.getAssignmentList());
+        assertTrue(addressBook.hasAssignment(13));
+        assertFalse(addressBook.hasAssignment(4));
+    }
+
+    @Test
+    public void setAssignments_duplicateIds_throwsIllegalArgumentException() {
+        List<Assignment> assignments = List.of(new Assignment(2, "A", null), new Assignment(2, "B", null));
+        assertThrows(IllegalArgumentException.class, String.format(AddressBook.MESSAGE_DUPLICATE_ASSIGNMENT, 2), () ->
+                addressBook.setAssignments(assignments));
+    }
+
+    @Test
+    public void resetData_copiesAssignments() {
+        AddressBook newData = getTypicalAddressBook();
+        newData.setAssignment(new Assignment(4, "Problem Set 4", null));
+        addressBook.resetData(newData);
+        assertEquals(newData, addressBook);
+        assertTrue(addressBook.hasAssignment(4));
+
+        // different assignments -> not equal
+        assertFalse(addressBook.equals(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void getAssignmentList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.getAssignmentList().remove(0));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -82,7 +205,8 @@ public class AddressBookTest {
 
     @Test
     public void toStringMethod() {
-        String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
+        String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList()
+                + ", assignments=" + addressBook.getAssignmentList() + "}";
         assertEquals(expected, addressBook.toString());
     }
 
@@ -100,6 +224,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public List<Assignment> getAssignmentList() {
+            return Assignment.getDefaultAssignments();
+        }
     }
 
 }
@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +20,21 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFileFormat(null));
+    }
+
+    @Test
+    public void equals_differentFileFormat_returnsFalse() {
+        UserPrefs userPrefs = new UserPrefs();
+        UserPrefs binaryUserPrefs = new UserPrefs();
+        binaryUserPrefs.setAddressBookFileFormat(AddressBookFileFormat.BINARY);
+
+        assertEquals(AddressBookFileFormat.JSON, userPrefs.getAddressBookFileFormat());
+        assertNotEquals(userPrefs, binaryUserPrefs);
+        assertEquals(binaryUserPrefs, new UserPrefs(binaryUserPrefs));
+    }
+
 }
@@ -0,0 +1,41 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HomeworkTest {
+
+    private static final int INVALID_ID = HomeworkTracker.MAX_ASSIGNMENTS + 1;
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new Homework(1, null));
+        assertThrows(IllegalArgumentException.class, () -> new Homework(0, Homework.STATUS_LATE));
+        assertThrows(IllegalArgumentException.class, () -> new Homework(INVALID_ID, Homework.STATUS_LATE));
+        assertThrows(IllegalArgumentException.class, () -> new Homework(1, "done"));
+    }
+
+    @Test
+    public void of_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> Homework.of(1, (String) null));
+        assertThrows(IllegalArgumentException.class, () -> Homework.of(0, Homework.STATUS_LATE));
+        assertThrows(IllegalArgumentException.class, () -> Homework.of(INVALID_ID, Homework.STATUS_LATE));
+        assertThrows(IllegalArgumentException.class, () -> Homework.of(1, "COMPLETE"));
+    }
+
+    @Test
+    public void of_equalValues_returnsSameInstance() {
+        Homework homework = Homework.of(2, Homework.STATUS_LATE);
+        assertSame(homework, Homework.of(2, new String("late")));
+        assertSame(homework, Homework.of(2, Homework.STATUS_COMPLETE).withStatus(Homework.STATUS_LATE));
+        assertEquals(new Homework(2, Homework.STATUS_LATE), homework);
+        assertNotSame(homework, Homework.of(3, Homework.STATUS_LATE));
+        assertFalse(homework.equals(Homework.of(2, Homework.STATUS_INCOMPLETE)));
+        assertSame(homework, Homework.of(2, HomeworkStatus.LATE));
+    }
+}
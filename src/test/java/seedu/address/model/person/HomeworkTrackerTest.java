@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class HomeworkTrackerTest {
+
+    @Test
+    public void addHomework_invalidId_throwsIllegalArgumentException() {
+        HomeworkTracker tracker = new HomeworkTracker();
+        assertThrows(IllegalArgumentException.class, Homework.MESSAGE_INVALID_ID, () -> tracker.addHomework(0));
+        assertThrows(IllegalArgumentException.class, Homework.MESSAGE_INVALID_ID, () ->
+                tracker.addHomework(HomeworkTracker.MAX_ASSIGNMENTS + 1));
+    }
+
+    @Test
+    public void addHomework_existingAssignment_returnsSameTracker() {
+        HomeworkTracker tracker = new HomeworkTracker().addHomework(2);
+        assertSame(tracker, tracker.addHomework(2));
+    }
+
+    @Test
+    public void updateStatus() {
+        HomeworkTracker empty = new HomeworkTracker();
+        HomeworkTracker tracker = empty.addHomework(2);
+        HomeworkTracker updated = tracker.updateStatus(2, Homework.STATUS_LATE);
+
+        // original trackers are unchanged
+        assertFalse(empty.hasAssignment(2));
+        assertEquals(Homework.STATUS_INCOMPLETE, tracker.getStatus(2));
+        assertEquals(Homework.STATUS_LATE, updated.getStatus(2));
+        assertEquals("not marked", updated.getStatus(1));
+        assertEquals("not marked", updated.getStatus(-1));
+        assertEquals("not marked", updated.getStatus(100));
+
+        assertThrows(IllegalArgumentException.class, () -> tracker.updateStatus(1, Homework.STATUS_LATE));
+        assertThrows(IllegalArgumentException.class, () -> tracker.updateStatus(2, "done"));
+    }
+
+    @Test
+    public void hasStatus() {
+        HomeworkTracker tracker = new HomeworkTracker().addHomework(1).addHomework(2)
+                .updateStatus(2, Homework.STATUS_LATE);
+        assertTrue(tracker.hasStatus(1, HomeworkStatus.INCOMPLETE));
+        assertTrue(tracker.hasStatus(2, HomeworkStatus.LATE));
+        assertFalse(tracker.hasStatus(2, HomeworkStatus.COMPLETE));
+
+        // assignments not given -> returns false
+        assertFalse(tracker.hasStatus(3, HomeworkStatus.INCOMPLETE));
+        assertFalse(tracker.hasStatus(-1, HomeworkStatus.INCOMPLETE));
+        assertFalse(tracker.hasStatus(HomeworkTracker.MAX_ASSIGNMENTS + 1, HomeworkStatus.INCOMPLETE));
+    }
+
+    @Test
+    public void asMap() {
+        HomeworkTracker tracker = new HomeworkTracker().addHomework(3).addHomework(1)
+                .updateStatus(3, Homework.STATUS_COMPLETE);
+        Map<Integer, Homework> map = tracker.asMap();
+
+        assertEquals(2, map.size());
+        assertEquals(List.of(1, 3), List.copyOf(map.keySet()));
+        assertEquals(Homework.of(3, Homework.STATUS_COMPLETE), map.get(3));
+        assertNull(map.get(2));
+        assertNull(map.get("3"));
+        assertEquals(Map.of(1, Homework.of(1, Homework.STATUS_INCOMPLETE), 3, Homework.of(3, Homework.STATUS_COMPLETE)),
+                map);
+        assertEquals("{1=Assignment 1: incomplete, 3=Assignment 3: complete}", tracker.toString());
+        assertThrows(UnsupportedOperationException.class, () -> map.remove(1));
+    }
+
+    @Test
+    public void equals() {
+        HomeworkTracker tracker = new HomeworkTracker().addHomework(1).addHomework(2)
+                .updateStatus(2, Homework.STATUS_LATE);
+
+        Map<Integer, Homework> map = new HashMap<>();
+        map.put(2, Homework.of(2, Homework.STATUS_LATE));
+        map.put(1, Homework.of(1, Homework.STATUS_INCOMPLETE));
+        HomeworkTracker fromMap = new HomeworkTracker(map);
+
+        // same statuses -> returns true
+        assertTrue(tracker.equals(fromMap));
+        assertEquals(tracker.hashCode(), fromMap.hashCode());
+        assertTrue(new HomeworkTracker().equals(new HomeworkTracker(new HashMap<>())));
+
+        // different statuses -> returns false
+        assertFalse(tracker.equals(tracker.updateStatus(2, Homework.STATUS_COMPLETE)));
+        assertFalse(tracker.equals(new HomeworkTracker().addHomework(1)));
+
+        // null -> returns false
+        assertFalse(tracker.equals(null));
+    }
+}
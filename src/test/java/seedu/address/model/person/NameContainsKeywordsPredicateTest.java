@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -39,6 +40,18 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void test_invalidKeywords_throwsIllegalArgumentException() {
+        Person person = new PersonBuilder().withName("Carol").build();
+        NameContainsKeywordsPredicate blankKeyword = new NameContainsKeywordsPredicate(List.of("Alice", " "));
+        assertThrows(IllegalArgumentException.class, () -> blankKeyword.test(person));
+        NameContainsKeywordsPredicate twoWords = new NameContainsKeywordsPredicate(List.of("Alice Bob"));
+        assertThrows(IllegalArgumentException.class, () -> twoWords.test(person));
+
+        // a matching keyword before the invalid one
+        assertTrue(new NameContainsKeywordsPredicate(List.of("carol", " ")).test(person));
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
@@ -56,6 +69,10 @@ public class NameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Keywords with surrounding whitespace, name with repeated spaces
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList(" carol\t"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice  Carol").build()));
     }
 
     @Test
@@ -68,6 +85,10 @@ public class NameContainsKeywordsPredicateTest {
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
 
+        // Keyword matching part of a word only
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Ali"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
         // Keywords match phone, email and address, but does not match name
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("12345", "alice@email.com", "Main", "Street"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
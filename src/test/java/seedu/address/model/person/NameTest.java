@@ -1,9 +1,13 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -38,6 +42,15 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void getFoldedWords() {
+        Name name = new Name("Peter  the 2nd ");
+        assertEquals(List.of("peter", "the", "2nd"), name.getFoldedWords());
+
+        // computed once
+        assertSame(name.getFoldedWords(), name.getFoldedWords());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
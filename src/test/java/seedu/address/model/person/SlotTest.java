@@ -1,6 +1,9 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +22,20 @@ public class SlotTest {
         assertThrows(IllegalArgumentException.class, () -> new Slot(invalidSlot));
     }
 
+    @Test
+    public void of_invalidSlot_throwsException() {
+        assertThrows(NullPointerException.class, () -> Slot.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Slot.of("T"));
+    }
+
+    @Test
+    public void of_equalSlots_returnsSameInstance() {
+        Slot slot = Slot.of("T42");
+        assertSame(slot, Slot.of(new String("T42")));
+        assertEquals(new Slot("T42"), slot);
+        assertNotSame(slot, Slot.of("T43"));
+    }
+
     @Test
     public void isValidSlot() {
         // null phone number
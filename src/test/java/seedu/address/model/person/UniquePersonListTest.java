@@ -3,9 +3,11 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NUSNETID_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NUSNETID_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
@@ -14,8 +16,10 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.search.SearchResult;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -106,6 +110,50 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void updatePersons_transformChangesSomePersons_singleChangeAndModifiedCount() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedBob = new PersonBuilder(BOB).withNusnetid(VALID_NUSNETID_AMY).build();
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c -> changeCount[0]++);
+
+        int modifiedCount = uniquePersonList.updatePersons(Arrays.asList(ALICE, BOB),
+                person -> person.equals(BOB) ? editedBob : person);
+
+        assertEquals(1, modifiedCount);
+        assertEquals(1, changeCount[0]);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(editedBob);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void updatePersons_noPersonModified_noChange() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c -> changeCount[0]++);
+
+        assertEquals(0, uniquePersonList.updatePersons(Collections.singletonList(ALICE), person -> person));
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void updatePersons_targetPersonNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () ->
+                uniquePersonList.updatePersons(Collections.singletonList(ALICE), person -> person));
+    }
+
+    @Test
+    public void updatePersons_editedPersonsHaveNonUniqueIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.updatePersons(Collections.singletonList(ALICE), person -> BOB));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -124,6 +172,26 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personBeforeOtherPersons_otherPersonsStillUpdatable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withNusnetid(VALID_NUSNETID_AMY).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        assertFalse(uniquePersonList.contains(ALICE));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedBob);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withNusnetid(VALID_NUSNETID_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -159,6 +227,86 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void findDuplicatePersons_uniquePersons_returnsEmptyList() {
+        assertTrue(UniquePersonList.findDuplicatePersons(Arrays.asList(ALICE, BOB)).isEmpty());
+    }
+
+    @Test
+    public void findDuplicatePersons_listWithDuplicatePersons_returnsEveryGroup() {
+        Person editedAlice = new PersonBuilder(ALICE).withNusnetid(VALID_NUSNETID_BOB).build();
+        Person editedBob = new PersonBuilder(BOB).withNusnetid(VALID_NUSNETID_AMY).build();
+        List<List<Person>> expectedGroups = Arrays.asList(Arrays.asList(ALICE, editedAlice, ALICE),
+                Arrays.asList(BOB, editedBob));
+        assertEquals(expectedGroups, UniquePersonList.findDuplicatePersons(
+                Arrays.asList(ALICE, BOB, editedAlice, editedBob, ALICE)));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsEveryGroup() {
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, BOB);
+        String expectedMessage = "Operation would result in duplicate persons: "
+                + ALICE.getName() + " (x2), " + BOB.getName() + " (x2)";
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void search_matchingWords_returnsMatchingPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, BOB));
+        SearchResult result = uniquePersonList.search(Arrays.asList("pAULINE", "meier", "Carl"));
+        assertEquals(2, result.size());
+        assertTrue(result.test(ALICE));
+        assertTrue(result.test(BENSON));
+        assertFalse(result.test(BOB));
+    }
+
+    @Test
+    public void search_afterSetPerson_findsEditedName() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(0, uniquePersonList.search(Collections.singletonList("Pauline")).size());
+        assertTrue(uniquePersonList.search(Collections.singletonList("tan")).test(editedAlice));
+    }
+
+    @Test
+    public void search_afterUpdatePersons_findsUpdatedFields() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person editedAlice = new PersonBuilder(ALICE).withNusnetid(VALID_NUSNETID_AMY).build();
+        uniquePersonList.updatePersons(Collections.singletonList(ALICE), unused -> editedAlice);
+        assertEquals(0, uniquePersonList.search(Collections.singletonList(ALICE.getNusnetid().value)).size());
+        assertTrue(uniquePersonList.search(Collections.singletonList(VALID_NUSNETID_AMY)).test(editedAlice));
+    }
+
+    @Test
+    public void search_afterRemove_doesNotFindRemovedPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        uniquePersonList.remove(ALICE);
+        assertEquals(0, uniquePersonList.search(Collections.singletonList("Alice")).size());
+    }
+
+    @Test
+    public void search_changesAfterFirstSearch_indexKeptUpToDate() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertEquals(1, uniquePersonList.search(Collections.singletonList("Alice")).size());
+
+        uniquePersonList.add(BENSON);
+        assertTrue(uniquePersonList.search(Collections.singletonList("Benson")).test(BENSON));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(0, uniquePersonList.search(Collections.singletonList("Pauline")).size());
+        assertTrue(uniquePersonList.search(Collections.singletonList("tan")).test(editedAlice));
+
+        uniquePersonList.remove(BENSON);
+        assertEquals(0, uniquePersonList.search(Collections.singletonList("Benson")).size());
+
+        uniquePersonList.setPersons(Collections.singletonList(BENSON));
+        assertEquals(0, uniquePersonList.search(Collections.singletonList("tan")).size());
+        assertTrue(uniquePersonList.search(Collections.singletonList("Benson")).test(BENSON));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
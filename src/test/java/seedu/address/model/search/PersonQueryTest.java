@@ -0,0 +1,122 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.HomeworkStatus;
+
+public class PersonQueryTest {
+
+    private static final double TYPICAL_PERSON_COUNT = 7;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private final PersonQuery slotT12 = PersonQuery.field(SearchField.SLOT, "t12", false);
+    private final PersonQuery phone9 = PersonQuery.phone("9", true);
+    private final PersonQuery noSuchSlot = PersonQuery.field(SearchField.SLOT, "T99", false);
+
+    @Test
+    public void compile_fieldClause_answeredFromIndex() {
+        CompiledQuery compiled = slotT12.compile(model);
+        assertTrue(compiled.getPredicate().test(FIONA));
+        assertFalse(compiled.getPredicate().test(ALICE));
+        assertEquals(1 / TYPICAL_PERSON_COUNT, compiled.getSelectivity(), 1e-9);
+        assertEquals(CompiledQuery.INDEX_LOOKUP_COST, compiled.getCost());
+        assertFalse(compiled.getRankComparator().isPresent());
+
+        // other fields do not match
+        assertSame(CompiledQuery.NONE, PersonQuery.field(SearchField.NAME, "t12", false).compile(model));
+
+        // prefix match
+        CompiledQuery telegramPrefix = PersonQuery.field(SearchField.TELEGRAM, "@carl", true).compile(model);
+        assertTrue(telegramPrefix.getPredicate().test(CARL));
+        assertFalse(PersonQuery.field(SearchField.TELEGRAM, "carl", false).compile(model).getPredicate().test(CARL));
+    }
+
+    @Test
+    public void compile_and_selectiveIndexClauseTestedFirst() {
+        CompiledQuery compiled = PersonQuery.and(Arrays.asList(phone9, slotT12)).compile(model);
+        assertTrue(compiled.getPredicate().test(FIONA));
+        assertFalse(compiled.getPredicate().test(ALICE));
+        assertEquals(CompiledQuery.DEFAULT_SELECTIVITY / TYPICAL_PERSON_COUNT, compiled.getSelectivity(), 1e-9);
+        // the phone is only read for the persons in slot T12
+        assertEquals(CompiledQuery.INDEX_LOOKUP_COST + CompiledQuery.FIELD_SCAN_COST / TYPICAL_PERSON_COUNT,
+                compiled.getCost(), 1e-9);
+
+        assertSame(CompiledQuery.NONE, PersonQuery.and(Arrays.asList(phone9, noSuchSlot)).compile(model));
+    }
+
+    @Test
+    public void compile_or_likeliestClauseTestedFirst() {
+        CompiledQuery compiled = PersonQuery.or(Arrays.asList(slotT12, phone9, noSuchSlot)).compile(model);
+        assertTrue(compiled.getPredicate().test(FIONA));
+        assertTrue(compiled.getPredicate().test(ALICE));
+        // slot T12 is only looked up for the persons whose phone does not start with 9
+        assertEquals(CompiledQuery.FIELD_SCAN_COST
+                + (1 - CompiledQuery.DEFAULT_SELECTIVITY) * CompiledQuery.INDEX_LOOKUP_COST, compiled.getCost(), 1e-9);
+
+        assertSame(CompiledQuery.NONE, PersonQuery.or(Collections.singletonList(noSuchSlot)).compile(model));
+    }
+
+    @Test
+    public void compile_not_invertsClause() {
+        CompiledQuery compiled = PersonQuery.not(slotT12).compile(model);
+        assertFalse(compiled.getPredicate().test(FIONA));
+        assertTrue(compiled.getPredicate().test(ALICE));
+        assertEquals(1 - 1 / TYPICAL_PERSON_COUNT, compiled.getSelectivity(), 1e-9);
+
+        assertSame(CompiledQuery.ALL, PersonQuery.not(noSuchSlot).compile(model));
+        assertSame(CompiledQuery.NONE, PersonQuery.not(PersonQuery.not(noSuchSlot)).compile(model));
+        // a clause matching everyone does not restrict the others
+        CompiledQuery restricted = PersonQuery.and(Arrays.asList(PersonQuery.not(noSuchSlot), slotT12)).compile(model);
+        assertEquals(1 / TYPICAL_PERSON_COUNT, restricted.getSelectivity(), 1e-9);
+        assertEquals(CompiledQuery.INDEX_LOOKUP_COST, restricted.getCost());
+    }
+
+    @Test
+    public void compile_keywordsUnderAnd_rankedByScore() {
+        PersonQuery query = PersonQuery.and(Arrays.asList(
+                PersonQuery.keywords(Arrays.asList("Benson", "Meier")), PersonQuery.phone("9", true)));
+        CompiledQuery compiled = query.compile(model);
+        assertTrue(compiled.getPredicate().test(BENSON));
+        assertTrue(compiled.getRankComparator().isPresent());
+
+        // negated keywords are not ranked
+        assertFalse(PersonQuery.not(PersonQuery.keywords(Collections.singletonList("Benson"))).compile(model)
+                .getRankComparator().isPresent());
+    }
+
+    @Test
+    public void compile_homeworkClause_scansTrackers() {
+        CompiledQuery compiled = PersonQuery.homework(1, HomeworkStatus.LATE).compile(model);
+        assertFalse(compiled.getPredicate().test(ALICE));
+        assertEquals(CompiledQuery.FIELD_SCAN_COST, compiled.getCost());
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(slotT12, PersonQuery.field(SearchField.SLOT, "t12", false));
+        assertFalse(slotT12.equals(PersonQuery.field(SearchField.SLOT, "t12", true)));
+        assertFalse(slotT12.equals(PersonQuery.field(SearchField.NAME, "t12", false)));
+        assertEquals(PersonQuery.and(Arrays.asList(slotT12, phone9)), PersonQuery.and(Arrays.asList(slotT12, phone9)));
+        assertFalse(PersonQuery.and(Arrays.asList(slotT12, phone9)).equals(
+                PersonQuery.or(Arrays.asList(slotT12, phone9))));
+        assertEquals(PersonQuery.not(phone9), PersonQuery.not(PersonQuery.phone("9", true)));
+        assertFalse(phone9.equals(null));
+    }
+}
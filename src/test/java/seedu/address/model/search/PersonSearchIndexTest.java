@@ -0,0 +1,170 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @Test
+    public void search_nullTerms_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.search(null));
+    }
+
+    @Test
+    public void search_blankTerms_matchesNothing() {
+        index.setAll(Arrays.asList(ALICE, BENSON));
+        assertEquals(0, index.search(Arrays.asList("", "  ")).size());
+    }
+
+    @Test
+    public void search_exactPrefixAndTypo_rankedInThatOrder() {
+        Person exact = new PersonBuilder().withName("Tan Wei").withNusnetid("E0000001").build();
+        Person prefix = new PersonBuilder().withName("Tang Mei").withNusnetid("E0000002").build();
+        Person typo = new PersonBuilder().withName("Tam Li").withNusnetid("E0000003").build();
+        index.setAll(Arrays.asList(typo, prefix, exact));
+
+        SearchResult result = index.search(Collections.singletonList("tan"));
+        assertTrue(result.getScore(exact) > result.getScore(prefix));
+        // Terms shorter than MIN_LENGTH_FOR_ONE_EDIT must be typed exactly
+        assertFalse(result.test(typo));
+
+        result = index.search(Collections.singletonList("tangs"));
+        assertTrue(result.test(prefix));
+        assertFalse(result.test(exact));
+    }
+
+    @Test
+    public void search_transposedCharacters_matches() {
+        index.setAll(Arrays.asList(ALICE, BENSON));
+        SearchResult result = index.search(Collections.singletonList("Pualine"));
+        assertTrue(result.test(ALICE));
+        assertFalse(result.test(BENSON));
+        assertEquals(PersonSearchIndex.FUZZY_SCORE / 2, result.getScore(ALICE), 1e-9);
+    }
+
+    @Test
+    public void search_termWithDigits_noTyposTolerated() {
+        index.setAll(Arrays.asList(ALICE, BENSON));
+        SearchResult result = index.search(Collections.singletonList(ALICE.getNusnetid().value));
+        assertTrue(result.test(ALICE));
+        assertFalse(result.test(BENSON));
+    }
+
+    @Test
+    public void search_otherFields_matches() {
+        index.setAll(Arrays.asList(ALICE, BENSON, CARL));
+        assertTrue(index.search(Collections.singletonList("@alicece")).test(ALICE));
+        assertTrue(index.search(Collections.singletonList("ALICECE")).test(ALICE));
+        assertTrue(index.search(Collections.singletonList("johnd")).test(BENSON));
+        assertTrue(index.search(Collections.singletonList("heinz@u.nus.edu")).test(CARL));
+        assertEquals(1, index.search(Collections.singletonList("t15")).size());
+    }
+
+    @Test
+    public void search_moreTermsMatched_scoresHigher() {
+        index.setAll(Arrays.asList(BENSON, DANIEL));
+        SearchResult result = index.search(Arrays.asList("Meier", "Daniel"));
+        assertTrue(result.getScore(DANIEL) > result.getScore(BENSON));
+        assertTrue(result.getRankComparator().compare(DANIEL, BENSON) < 0);
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        index.setAll(Arrays.asList(ALICE, BENSON));
+        index.remove(ALICE);
+        assertEquals(0, index.search(Arrays.asList("Alice", "alicece")).size());
+        assertTrue(index.search(Collections.singletonList("Benson")).test(BENSON));
+    }
+
+    @Test
+    public void replace_sameSearchableFields_findsEditedPerson() {
+        index.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        index.replace(ALICE, editedAlice);
+        assertTrue(index.search(Collections.singletonList("Alice")).test(editedAlice));
+    }
+
+    @Test
+    public void replace_differentName_findsNewName() {
+        index.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        index.replace(ALICE, editedAlice);
+        assertFalse(index.search(Collections.singletonList("Pauline")).test(editedAlice));
+        assertTrue(index.search(Collections.singletonList("Tan")).test(editedAlice));
+    }
+
+    @Test
+    public void search_manyTokens_sameMatchesAsComparingEveryToken() {
+        Random random = new Random(7);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            persons.add(new PersonBuilder().withName(randomWord(random) + " " + randomWord(random))
+                    .withNusnetid(String.format("E%07d", i)).withEmail("student" + i + "@u.nus.edu")
+                    .withTelegram("@student" + i).build());
+        }
+        index.setAll(persons);
+
+        for (int i = 0; i < 200; i++) {
+            String term = randomWord(random);
+            int maxEdits = PersonSearchIndex.getMaxEdits(term);
+            SearchResult result = index.search(Collections.singletonList(term));
+            for (Person person : persons) {
+                boolean isExpected = false;
+                for (String word : person.getName().fullName.toLowerCase().split(" ")) {
+                    isExpected |= word.startsWith(term) || distance(word, term) <= maxEdits;
+                }
+                assertEquals(isExpected, result.test(person), term + " / " + person.getName());
+            }
+        }
+    }
+
+    private static String randomWord(Random random) {
+        String letters = "abeilnorst";
+        StringBuilder word = new StringBuilder();
+        for (int i = 3 + random.nextInt(6); i > 0; i--) {
+            word.append(letters.charAt(random.nextInt(letters.length())));
+        }
+        return word.toString();
+    }
+
+    /**
+     * Returns the number of insertions, deletions, substitutions and adjacent transpositions between the strings.
+     */
+    private static int distance(String first, String second) {
+        int[][] table = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            for (int j = 0; j <= second.length(); j++) {
+                if (i == 0 || j == 0) {
+                    table[i][j] = i + j;
+                    continue;
+                }
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                table[i][j] = Math.min(Math.min(table[i - 1][j] + 1, table[i][j - 1] + 1), table[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    table[i][j] = Math.min(table[i][j], table[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return table[first.length()][second.length()];
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AdaptedPersonLoaderTest {
+
+    private static JsonAdaptedPerson withInvalidEmail(Person person) {
+        return new JsonAdaptedPerson(person.getName().fullName, person.getPhone().value, "invalid",
+                person.getNusnetid().value, person.getSlot().value, person.getTelegram().value, null);
+    }
+
+    @Test
+    public void finish_validPersons_insertedInOrder() throws Exception {
+        // enough persons for several batches, each converted in parallel
+        List<Person> persons = new ArrayList<>();
+        AdaptedPersonLoader loader = new AdaptedPersonLoader();
+        for (int i = 0; i < AdaptedPersonLoader.BATCH_SIZE * 2 + 10; i++) {
+            Person person = new PersonBuilder().withName("Student " + i).build();
+            persons.add(person);
+            loader.add(new JsonAdaptedPerson(person));
+        }
+
+        AddressBook expected = new AddressBook();
+        expected.setPersons(persons);
+        assertEquals(expected, loader.finish());
+    }
+
+    @Test
+    public void finish_noPersons_emptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), new AdaptedPersonLoader().finish());
+    }
+
+    @Test
+    public void finish_invalidAndDuplicatePersons_allErrorsReportedWithRows() {
+        AdaptedPersonLoader loader = new AdaptedPersonLoader();
+        loader.add(new JsonAdaptedPerson(ALICE));
+        loader.add(withInvalidEmail(BENSON));
+        loader.add(new JsonAdaptedPerson(CARL));
+        loader.add(new JsonAdaptedPerson(ALICE));
+
+        String expectedMessage = String.format(AdaptedPersonLoader.MESSAGE_ROW_ERROR, 2, Email.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(AdaptedPersonLoader.MESSAGE_ROW_ERROR, 4,
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        assertThrows(IllegalValueException.class, expectedMessage, loader::finish);
+    }
+
+    @Test
+    public void finish_manyErrors_reportCapped() {
+        AdaptedPersonLoader loader = new AdaptedPersonLoader();
+        int errorCount = AdaptedPersonLoader.MAX_REPORTED_ERRORS + 5;
+        for (int i = 0; i < errorCount; i++) {
+            loader.add(withInvalidEmail(new PersonBuilder().withName("Student " + i).build()));
+        }
+
+        String message = "";
+        try {
+            loader.finish();
+            fail();
+        } catch (IllegalValueException ive) {
+            message = ive.getMessage();
+        }
+        assertEquals(AdaptedPersonLoader.MAX_REPORTED_ERRORS, message.split("Row \\d+: ").length - 1);
+        assertTrue(message.endsWith(String.format(AdaptedPersonLoader.MESSAGE_MORE_ERRORS, 5)));
+    }
+}
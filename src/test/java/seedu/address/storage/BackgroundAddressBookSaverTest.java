@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookSaverTest {
+
+    private static final Path DUMMY_PATH = Path.of("dummy.json");
+
+    private final List<AddressBook> savedAddressBooks = new CopyOnWriteArrayList<>();
+    private final List<IOException> failures = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BackgroundAddressBookSaver(null, failures::add));
+        assertThrows(NullPointerException.class, () ->
+                new BackgroundAddressBookSaver(new JsonAddressBookStorage(DUMMY_PATH), null));
+    }
+
+    @Test
+    public void save_laterChangesToAddressBook_snapshotSaved() {
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(new RecordingStorage(null), failures::add);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+
+        saver.save(addressBook);
+        addressBook.addPerson(BENSON);
+        saver.flush();
+
+        assertEquals(1, savedAddressBooks.size());
+        assertEquals(List.of(ALICE), savedAddressBooks.get(0).getPersonList());
+    }
+
+    @Test
+    public void save_snapshotIsReadOnlyCopy() {
+        List<ReadOnlyAddressBook> snapshots = new CopyOnWriteArrayList<>();
+        RecordingStorage storage = new RecordingStorage(null) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                snapshots.add(addressBook);
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, failures::add);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+
+        saver.save(addressBook);
+        saver.flush();
+
+        ReadOnlyAddressBook snapshot = snapshots.get(0);
+        assertFalse(snapshot instanceof AddressBook);
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(addressBook.getAssignmentList(), snapshot.getAssignmentList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().add(BENSON));
+    }
+
+    @Test
+    public void save_burstWhileWriting_coalescedIntoOneWrite() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        RecordingStorage storage = new RecordingStorage(null) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (savedAddressBooks.isEmpty()) {
+                    writeStarted.countDown();
+                    try {
+                        releaseWrite.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, failures::add);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        saver.save(addressBook);
+        writeStarted.await();
+        addressBook.addPerson(BENSON);
+        saver.save(addressBook);
+        addressBook.addPerson(CARL);
+        saver.save(addressBook);
+        releaseWrite.countDown();
+        saver.flush();
+
+        assertEquals(2, savedAddressBooks.size());
+        assertEquals(List.of(ALICE, BENSON, CARL), savedAddressBooks.get(1).getPersonList());
+    }
+
+    @Test
+    public void save_storageThrowsIoException_failureReported() {
+        IOException exception = new IOException("dummy IO exception");
+        BackgroundAddressBookSaver saver =
+                new BackgroundAddressBookSaver(new RecordingStorage(exception), failures::add);
+
+        saver.save(new AddressBook());
+        saver.flush();
+
+        assertEquals(List.of(exception), failures);
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books it is asked to save, or throws the given
+     * exception instead if it is not null.
+     */
+    private class RecordingStorage extends JsonAddressBookStorage {
+        private final IOException exception;
+
+        RecordingStorage(IOException exception) {
+            super(DUMMY_PATH);
+            this.exception = exception;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (exception != null) {
+                throw exception;
+            }
+            savedAddressBooks.add(new AddressBook(addressBook));
+        }
+    }
+}
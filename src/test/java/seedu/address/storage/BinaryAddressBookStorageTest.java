@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Returns the typical address book, with an extra assignment and homework recorded for some persons.
+     */
+    private AddressBook getAddressBookWithHomework() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.setAssignment(new Assignment(13, "Problem Set 13", LocalDate.of(2026, 11, 20)));
+        addressBook.setPerson(ALICE, ALICE.withAddedHomework(1).withAddedHomework(3).withUpdatedHomework(3, "late"));
+        addressBook.setPerson(BENSON, BENSON.withAddedHomework(2).withAddedHomework(13)
+                .withUpdatedHomework(2, "complete"));
+        return addressBook;
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same persons as {@code expected}, including their homework.
+     */
+    private void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(new AddressBook(expected), new AddressBook(actual));
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            assertEquals(expected.getPersonList().get(i).getHomeworkTracker(),
+                    actual.getPersonList().get(i).getHomeworkTracker());
+        }
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getAddressBookWithHomework();
+
+        storage.saveAddressBook(original);
+        assertSameData(original, storage.readAddressBook().get());
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertSameData(original, storage.readAddressBook().get());
+
+        storage.saveAddressBook(new AddressBook());
+        assertSameData(new AddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getAddressBookWithHomework();
+
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        assertTrue(Files.size(binaryFilePath) * 3 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.dat"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.dat")));
+    }
+
+    @Test
+    public void readAddressBook_jsonFileNextToMissingBinaryFile_imported() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getAddressBookWithHomework();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(binaryFilePath);
+        assertSameData(original, storage.readAddressBook().get());
+
+        // saving writes the binary file, leaving the JSON file as it was
+        String jsonContent = FileUtil.readFromFile(jsonFilePath);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(binaryFilePath));
+        assertEquals(jsonContent, FileUtil.readFromFile(jsonFilePath));
+        assertSameData(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_imported() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getAddressBookWithHomework();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertSameData(original, storage.readAddressBook().get());
+
+        // saving converts the file to the binary format
+        storage.saveAddressBook(original);
+        assertFalse(FileUtil.readFromFile(filePath).startsWith("{"));
+        assertSameData(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidJsonFile_throwsDataLoadingException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Files.write(filePath, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+
+        Files.write(filePath, new byte[0]);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getAddressBookWithHomework());
+        byte[] content = Files.readAllBytes(filePath);
+        byte[] truncated = new byte[content.length - 5];
+        System.arraycopy(content, 0, truncated, 0, truncated.length);
+        Files.write(filePath, truncated);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_versionWithoutAssignments_defaultAssignments() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookStorage.MAGIC);
+        out.writeShort(BinaryAddressBookStorage.FORMAT_VERSION_WITHOUT_ASSIGNMENTS);
+        out.writeInt(0);
+        Files.write(filePath, bytes.toByteArray());
+
+        ReadOnlyAddressBook read = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new AddressBook(), new AddressBook(read));
+        assertEquals(Assignment.getDefaultAssignments(), read.getAssignmentList());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("TempAddressBook.bin")).saveAddressBook(null));
+    }
+}
@@ -0,0 +1,263 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath() {
+        return testFolder.resolve("TempAddressBook.json");
+    }
+
+    private Path journalPath() {
+        return JournaledAddressBookStorage.getJournalFilePath(filePath());
+    }
+
+    private JournaledAddressBookStorage newStorage(int compactionThreshold) {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath()), compactionThreshold);
+    }
+
+    private List<String> readJournalLines() throws IOException {
+        return Files.readAllLines(journalPath(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same persons as {@code expected}, including their homework.
+     */
+    private void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(new AddressBook(expected), new AddressBook(actual));
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            assertEquals(expected.getPersonList().get(i).getHomeworkTracker(),
+                    actual.getPersonList().get(i).getHomeworkTracker());
+        }
+    }
+
+    private void assertReadBack(ReadOnlyAddressBook expected) throws Exception {
+        assertSameData(expected, newStorage(JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD)
+                .readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> newStorage(1).readAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> newStorage(1).saveAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(newStorage(1).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        newStorage(10).saveAddressBook(original);
+
+        assertTrue(Files.exists(filePath()));
+        assertFalse(Files.exists(journalPath()));
+        assertReadBack(original);
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_writesNothing() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = newStorage(10);
+        storage.saveAddressBook(original);
+        long modified = Files.getLastModifiedTime(filePath()).toMillis();
+
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(journalPath()));
+        assertEquals(modified, Files.getLastModifiedTime(filePath()).toMillis());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = newStorage(10);
+        storage.saveAddressBook(original);
+        String snapshot = new String(Files.readAllBytes(filePath()), StandardCharsets.UTF_8);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(2, readJournalLines().size()); // header and one add
+
+        original.removePerson(ALICE);
+        Person editedBenson = BENSON.withAddedHomework(1).withUpdatedHomework(1, "late");
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+        assertEquals(4, readJournalLines().size());
+
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath()), StandardCharsets.UTF_8));
+        assertReadBack(original);
+    }
+
+    @Test
+    public void saveAddressBook_rename_replayedInPlace() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = newStorage(10);
+        storage.saveAddressBook(original);
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Renamed").build());
+        storage.saveAddressBook(original);
+
+        assertEquals(2, readJournalLines().size());
+        assertReadBack(original);
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        newStorage(10).saveAddressBook(original);
+        original.addPerson(HOON);
+        JournaledAddressBookStorage storage = newStorage(10);
+        storage.saveAddressBook(original); // not read yet, so compacts
+        assertFalse(Files.exists(journalPath()));
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(IDA);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(2, readJournalLines().size());
+        assertReadBack(readBack);
+    }
+
+    @Test
+    public void saveAddressBook_thresholdExceeded_compacts() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = newStorage(1);
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalPath()));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath()));
+        assertReadBack(original);
+    }
+
+    @Test
+    public void saveAddressBook_reordered_compacts() throws Exception {
+        AddressBook original = new AddressBook();
+        original.setPersons(List.of(ALICE, BENSON));
+        JournaledAddressBookStorage storage = newStorage(10);
+        storage.saveAddressBook(original);
+
+        original.setPersons(List.of(BENSON, ALICE));
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(journalPath()));
+        assertReadBack(original);
+    }
+
+    @Test
+    public void saveAddressBook_assignmentsChanged_compacts() throws Exception {
+        AddressBook original = new AddressBook();
+        original.setPersons(List.of(ALICE, BENSON));
+        JournaledAddressBookStorage storage = newStorage(10);
+        storage.saveAddressBook(original);
+
+        original.setAssignment(new Assignment(4, "Problem Set 4", null));
+        original.setPerson(ALICE, ALICE.withAddedHomework(4));
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(journalPath()));
+        assertReadBack(original);
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplaced_journalIgnored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = newStorage(10);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        new JsonAddressBookStorage(filePath()).saveAddressBook(replacement);
+
+        assertReadBack(replacement);
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = newStorage(10);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(journalPath(), "{\"op\":\"add\",\"per".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertReadBack(original);
+    }
+
+    @Test
+    public void saveAddressBook_afterIncompleteLastEntry_compacts() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = newStorage(10);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(journalPath(), "{\"op\":\"add\",\"per".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reader = newStorage(10);
+        AddressBook readBack = new AddressBook(reader.readAddressBook().get());
+        readBack.addPerson(IDA);
+        reader.saveAddressBook(readBack); // appending would join the entry to the incomplete line
+
+        assertFalse(Files.exists(journalPath()));
+        assertReadBack(readBack);
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataLoadingException() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = newStorage(10);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(journalPath(), "{\"op\":\"remove\",\"target\":\"Nobody\"}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> newStorage(10).readAddressBook());
+    }
+}
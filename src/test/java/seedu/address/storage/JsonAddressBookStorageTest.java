@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,8 +17,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +90,76 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_streamed_sameFormatAsJsonUtil() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        assertEquals(expected, FileUtil.readFromFile(filePath));
+
+        // empty persons list
+        new JsonAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(new AddressBook())),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAddressBook_fileAboveMappingThreshold_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = new AddressBook();
+        long threshold = JsonAddressBookStorage.MAPPED_READ_THRESHOLD;
+        for (int i = 0; Files.notExists(filePath) || Files.size(filePath) < threshold; i++) {
+            for (int j = 0; j < 500; j++) {
+                original.addPerson(new PersonBuilder().withName("Student " + i + " " + j).build());
+            }
+            new JsonAddressBookStorage(filePath, 0).saveAddressBook(original);
+        }
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        String content = JsonUtil.toJsonString(new JsonSerializableAddressBook(getTypicalAddressBook()));
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() / 2));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+
+        FileUtil.writeToFile(filePath, "");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingPersonsField_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath, "{ \"students\" : [ ] }");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath, "{ \"version\" : { \"major\" : [ 1, 2 ] }, \"persons\" : [ ] }");
+        assertEquals(new AddressBook(), new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_previousVersions_keptAsBackups() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook edited = new AddressBook(original);
+        edited.removePerson(ALICE);
+        storage.saveAddressBook(edited);
+
+        Path backupPath = FileUtil.getBackupFilePath(filePath, 1);
+        assertEquals(original, new AddressBook(storage.readAddressBook(backupPath).get()));
+        assertEquals(edited, new AddressBook(storage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -3,14 +3,20 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +25,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path ASSIGNMENTS_FILE = TEST_DATA_FOLDER.resolve("assignmentsAddressBook.json");
+    private static final Path DUPLICATE_ASSIGNMENT_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateAssignmentAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -27,6 +36,31 @@ public class JsonSerializableAddressBookTest {
         AddressBook addressBookFromFile = dataFromFile.toModelType();
         AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
+        assertEquals(Assignment.getDefaultAssignments(), addressBookFromFile.getAssignmentList());
+    }
+
+    @Test
+    public void toModelType_assignmentsFile_success() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(ASSIGNMENTS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        assertEquals(List.of(new Assignment(1, "Problem Set 1", null),
+                new Assignment(13, "Problem Set 13", LocalDate.of(2026, 11, 20))),
+                addressBookFromFile.getAssignmentList());
+        assertEquals("late", addressBookFromFile.getPersonList().get(0).getHomeworkTracker().getStatus(13));
+
+        // streamed reading gives the same address book
+        try (JsonParser parser = JsonUtil.createJsonParser(Files.newInputStream(ASSIGNMENTS_FILE))) {
+            assertEquals(addressBookFromFile, JsonSerializableAddressBook.readFrom(parser));
+        }
+    }
+
+    @Test
+    public void toModelType_duplicateAssignments_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ASSIGNMENT_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, String.format(AddressBook.MESSAGE_DUPLICATE_ASSIGNMENT, 2),
+                dataFromFile::toModelType);
     }
 
     @Test
@@ -40,8 +74,8 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, String.format(AdaptedPersonLoader.MESSAGE_ROW_ERROR, 2,
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON), dataFromFile::toModelType);
     }
 
 }